@@ -0,0 +1,29 @@
+package com.library.catalog.aop;
+
+import com.library.catalog.repository.BookCopyStatus;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class BookCopyConflictException extends BookCopyException {
+
+    private final UUID publicId;
+    private final BookCopyStatus expectedStatus;
+
+    public BookCopyConflictException(String operation, UUID publicId, BookCopyStatus expectedStatus, String message) {
+        super(operation, message);
+        this.publicId = publicId;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public static BookCopyConflictException statusChanged(UUID copyPublicId, BookCopyStatus expectedStatus) {
+        String message = String.format("Book copy %s is no longer %s", copyPublicId, expectedStatus);
+        return new BookCopyConflictException("status transition", copyPublicId, expectedStatus, message);
+    }
+
+    public static BookCopyConflictException noBorrowableCopy(UUID bookPublicId) {
+        String message = String.format("No borrowable copy of book %s is available", bookPublicId);
+        return new BookCopyConflictException("claim", bookPublicId, BookCopyStatus.AVAILABLE, message);
+    }
+}
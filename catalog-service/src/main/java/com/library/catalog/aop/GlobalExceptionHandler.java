@@ -1,6 +1,7 @@
 package com.library.catalog.aop;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -57,6 +58,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(BookCopyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleBookCopyConflict(
+            BookCopyConflictException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            "BOOK_COPY_CONFLICT",
+            getPath(request)
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            "The resource was modified by another request, reload it and retry",
+            "CONCURRENT_MODIFICATION",
+            getPath(request)
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(InvalidUuidException.class)
     public ResponseEntity<ValidationErrorResponse> handleInvalidUuid(
             InvalidUuidException ex, WebRequest request) {
@@ -0,0 +1,36 @@
+package com.library.catalog.aop;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps catalog exceptions thrown by GraphQL resolvers to GraphQL error types, the way
+ * {@link GlobalExceptionHandler} maps them to HTTP statuses for REST.
+ */
+@Slf4j
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        ErrorType errorType;
+        if (ex instanceof EntityNotFoundException) {
+            errorType = ErrorType.NOT_FOUND;
+        } else if (ex instanceof EntityValidationException) {
+            errorType = ErrorType.BAD_REQUEST;
+        } else {
+            // Let the default handling report anything unexpected as an internal error
+            return null;
+        }
+        log.debug("GraphQL field {} failed: {}", env.getField().getName(), ex.getMessage());
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(errorType)
+                .message(ex.getMessage())
+                .build();
+    }
+}
@@ -2,16 +2,21 @@ package com.library.catalog.controller;
 
 import com.library.catalog.dto.request.AuthorSearchRequest;
 import com.library.catalog.dto.request.CreateAuthorRequest;
+import com.library.catalog.dto.request.RelatedBooksRequest;
 import com.library.catalog.dto.request.UpdateAuthorRequest;
 import com.library.catalog.dto.response.AuthorResponse;
 import com.library.catalog.dto.response.PagedAuthorResponse;
+import com.library.catalog.dto.response.PagedBookResponse;
 import com.library.catalog.framework.annotation.ValidUuid;
+import com.library.catalog.framework.web.EntityTags;
 import com.library.catalog.service.AuthorService;
+import com.library.catalog.service.BookService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
@@ -24,6 +29,7 @@ import java.util.UUID;
 public class AuthorController {
 
     private final AuthorService authorService;
+    private final BookService bookService;
 
     @PostMapping
     public ResponseEntity<AuthorResponse> createAuthor(@Valid @RequestBody CreateAuthorRequest request) {
@@ -33,9 +39,11 @@ public class AuthorController {
 
     @GetMapping("/{publicId}")
     public ResponseEntity<AuthorResponse> getAuthor(
-            @PathVariable @ValidUuid(allowNull = false, message = "Public ID must be a valid UUID") String publicId) {
+            @PathVariable @ValidUuid(allowNull = false, message = "Public ID must be a valid UUID") String publicId,
+            WebRequest webRequest) {
 
-        return ResponseEntity.ok(authorService.getAuthorByPublicId(UUID.fromString(publicId)));
+        UUID uuid = UUID.fromString(publicId);
+        return EntityTags.conditional(webRequest, authorService.getAuthorVersion(uuid), () -> authorService.getAuthorByPublicId(uuid));
     }
 
     @GetMapping
@@ -45,6 +53,15 @@ public class AuthorController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{publicId}/books")
+    public ResponseEntity<PagedBookResponse> getAuthorBooks(
+            @PathVariable @ValidUuid(allowNull = false, message = "Public ID must be a valid UUID") String publicId,
+            @Valid @ModelAttribute RelatedBooksRequest request) {
+
+        PagedBookResponse response = bookService.getBooksByAuthor(UUID.fromString(publicId), request);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{publicId}")
     public ResponseEntity<AuthorResponse> updateAuthor(
             @PathVariable @ValidUuid(allowNull = false, message = "Public ID must be a valid UUID") String publicId,
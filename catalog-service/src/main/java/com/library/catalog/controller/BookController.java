@@ -1,19 +1,44 @@
 package com.library.catalog.controller;
 
+import com.library.catalog.dto.request.BookBatchLookupRequest;
+import com.library.catalog.dto.request.BookCopyBarcodeLookupRequest;
+import com.library.catalog.dto.request.BookCopyClaimRequest;
+import com.library.catalog.dto.request.BookCopyStatusTransitionRequest;
 import com.library.catalog.dto.request.BookSearchRequest;
+import com.library.catalog.dto.request.BookSuggestRequest;
 import com.library.catalog.dto.request.CreateBookWithCopiesRequest;
 import com.library.catalog.dto.request.UpdateBookWithCopiesRequest;
+import com.library.catalog.dto.response.BookAvailabilityResponse;
+import com.library.catalog.dto.response.BookCopyScanBatchResponse;
+import com.library.catalog.dto.response.BookCopyScanResponse;
 import com.library.catalog.dto.response.BookDetailResponse;
+import com.library.catalog.dto.response.BookImportJobResponse;
+import com.library.catalog.dto.response.BookSuggestionResponse;
+import com.library.catalog.dto.response.BookSummaryBatchResponse;
 import com.library.catalog.dto.response.PagedBookResponse;
+import com.library.catalog.framework.importer.BookImportReader;
+import com.library.catalog.framework.web.EntityTags;
+import com.library.catalog.service.BookImportService;
 import com.library.catalog.service.BookService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -23,6 +48,7 @@ import java.util.UUID;
 public class BookController {
 
     private final BookService bookService;
+    private final BookImportService bookImportService;
 
     @PostMapping
     public ResponseEntity<BookDetailResponse> createBookWithCopies(@Valid @RequestBody CreateBookWithCopiesRequest request) {
@@ -31,11 +57,95 @@ public class BookController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN', 'LIBRARIAN')")
+    public ResponseEntity<BookImportJobResponse> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                             InputStream body) {
+
+        BookImportReader.Format format = BookImportReader.Format.fromContentType(contentType);
+        BookImportJobResponse response = bookImportService.startImport(format, body);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(response.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'LIBRARIAN')")
+    public ResponseEntity<BookImportJobResponse> getImportJob(@PathVariable String jobId) {
+
+        UUID uuid = UUID.fromString(jobId);
+        BookImportJobResponse response = bookImportService.getImportJob(uuid);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'LIBRARIAN')")
+    public void exportBooks(HttpServletResponse response) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"books.ndjson\"");
+        bookService.exportBooks(response.getOutputStream());
+    }
+
     @GetMapping("/{publicId}/detail")
-    public ResponseEntity<BookDetailResponse> getBookDetail(@PathVariable String publicId) {
+    public ResponseEntity<BookDetailResponse> getBookDetail(@PathVariable String publicId, WebRequest webRequest) {
 
         UUID uuid = UUID.fromString(publicId);
-        BookDetailResponse response = bookService.getBookDetail(uuid);
+        return EntityTags.conditionalVersioned(webRequest, bookService.getBookDetailVersion(uuid),
+                () -> bookService.getVersionedBookDetail(uuid));
+    }
+
+    @GetMapping("/{publicId}/availability")
+    public ResponseEntity<BookAvailabilityResponse> getBookAvailability(@PathVariable String publicId, WebRequest webRequest) {
+
+        UUID uuid = UUID.fromString(publicId);
+        return EntityTags.conditional(webRequest, bookService.getBookAvailabilityVersion(uuid), () -> bookService.getBookAvailability(uuid));
+    }
+
+    @PostMapping("/{publicId}/copies/claim")
+    public ResponseEntity<BookDetailResponse.BookCopyInfo> claimCopy(@PathVariable String publicId, @Valid @RequestBody BookCopyClaimRequest request) {
+
+        UUID uuid = UUID.fromString(publicId);
+        BookDetailResponse.BookCopyInfo response = bookService.claimCopy(uuid, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/copies/{copyPublicId}/status")
+    public ResponseEntity<BookDetailResponse.BookCopyInfo> transitionCopyStatus(@PathVariable String copyPublicId, @Valid @RequestBody BookCopyStatusTransitionRequest request) {
+
+        UUID uuid = UUID.fromString(copyPublicId);
+        BookDetailResponse.BookCopyInfo response = bookService.transitionCopyStatus(uuid, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/copies/by-barcode/{barcode}")
+    public ResponseEntity<BookCopyScanResponse> getCopyByBarcode(@PathVariable String barcode) {
+
+        BookCopyScanResponse response = bookService.getCopyByBarcode(barcode);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/copies/by-barcode")
+    public ResponseEntity<BookCopyScanBatchResponse> getCopiesByBarcodes(@Valid @RequestBody BookCopyBarcodeLookupRequest request) {
+
+        BookCopyScanBatchResponse response = bookService.getCopiesByBarcodes(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BookSummaryBatchResponse> getBookSummaries(@Valid @RequestBody BookBatchLookupRequest request) {
+
+        BookSummaryBatchResponse response = bookService.getBookSummaries(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookSuggestionResponse>> suggestBooks(@Valid @ModelAttribute BookSuggestRequest request) {
+
+        List<BookSuggestionResponse> response = bookService.suggestBooks(request);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,133 @@
+package com.library.catalog.controller;
+
+import com.library.catalog.aop.EntityValidationException;
+import com.library.catalog.dto.request.BookSearchRequest;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAvailability;
+import com.library.catalog.repository.BookCopy;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.Publisher;
+import com.library.catalog.service.CatalogQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * GraphQL read API over the catalog. Relationship fields are {@link BatchMapping}s, so each one is resolved
+ * through a DataLoader with one query per field for all books in the response, not one per book.
+ */
+@Controller
+@RequiredArgsConstructor
+public class CatalogGraphQlController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CatalogQueryService catalogQueryService;
+
+    public record BookPage(List<Book> content, int page, int size, long totalElements, int totalPages) {
+    }
+
+    @QueryMapping
+    public Book book(@Argument UUID id) {
+        return catalogQueryService.findBook(id).orElse(null);
+    }
+
+    @QueryMapping
+    public BookPage books(@Argument String title, @Argument String authorName, @Argument String categoryName,
+                          @Argument String publisherName, @Argument Short publicationYear, @Argument String language,
+                          @Argument int page, @Argument int size) {
+        if (page < 0) {
+            throw EntityValidationException.invalidField("Book", "page", page, "Page number must be non-negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw EntityValidationException.invalidField("Book", "size", size, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        BookSearchRequest request = BookSearchRequest.builder()
+                .title(title)
+                .authorName(authorName)
+                .categoryName(categoryName)
+                .publisherName(publisherName)
+                .publicationYear(publicationYear)
+                .language(language)
+                .page(page)
+                .size(size)
+                .build();
+        Page<Book> books = catalogQueryService.searchBooks(request);
+        return new BookPage(books.getContent(), books.getNumber(), books.getSize(), books.getTotalElements(), books.getTotalPages());
+    }
+
+    @QueryMapping
+    public Author author(@Argument UUID id) {
+        return catalogQueryService.findAuthor(id).orElse(null);
+    }
+
+    @QueryMapping
+    public Category category(@Argument UUID id) {
+        return catalogQueryService.findCategory(id).orElse(null);
+    }
+
+    @QueryMapping
+    public Publisher publisher(@Argument UUID id) {
+        return catalogQueryService.findPublisher(id).orElse(null);
+    }
+
+    @BatchMapping(field = "publisher")
+    public List<Publisher> bookPublisher(List<Book> books) {
+        return catalogQueryService.loadPublishers(books);
+    }
+
+    @BatchMapping
+    public List<List<Author>> authors(List<Book> books) {
+        return catalogQueryService.loadAuthors(books);
+    }
+
+    @BatchMapping
+    public List<List<Category>> categories(List<Book> books) {
+        return catalogQueryService.loadCategories(books);
+    }
+
+    @BatchMapping
+    public List<List<BookCopy>> copies(List<Book> books) {
+        return catalogQueryService.loadCopies(books);
+    }
+
+    @BatchMapping
+    public List<BookAvailability> availability(List<Book> books) {
+        return catalogQueryService.loadAvailability(books);
+    }
+
+    // Entities expose their internal id; the API only ever shows the public one
+
+    @SchemaMapping(typeName = "Book", field = "id")
+    public UUID bookId(Book book) {
+        return book.getPublicId();
+    }
+
+    @SchemaMapping(typeName = "Copy", field = "id")
+    public UUID copyId(BookCopy copy) {
+        return copy.getPublicId();
+    }
+
+    @SchemaMapping(typeName = "Author", field = "id")
+    public UUID authorId(Author author) {
+        return author.getPublicId();
+    }
+
+    @SchemaMapping(typeName = "Category", field = "id")
+    public UUID categoryId(Category category) {
+        return category.getPublicId();
+    }
+
+    @SchemaMapping(typeName = "Publisher", field = "id")
+    public UUID publisherId(Publisher publisher) {
+        return publisher.getPublicId();
+    }
+}
@@ -2,15 +2,20 @@ package com.library.catalog.controller;
 
 import com.library.catalog.dto.request.CategorySearchRequest;
 import com.library.catalog.dto.request.CreateCategoryRequest;
+import com.library.catalog.dto.request.RelatedBooksRequest;
 import com.library.catalog.dto.request.UpdateCategoryRequest;
 import com.library.catalog.dto.response.CategoryResponse;
+import com.library.catalog.dto.response.PagedBookResponse;
 import com.library.catalog.dto.response.PagedCategoryResponse;
+import com.library.catalog.framework.web.EntityTags;
+import com.library.catalog.service.BookService;
 import com.library.catalog.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
@@ -23,6 +28,7 @@ import java.util.UUID;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final BookService bookService;
 
     @PostMapping
     public ResponseEntity<CategoryResponse> createCategory(@Valid @RequestBody CreateCategoryRequest request) {
@@ -32,11 +38,10 @@ public class CategoryController {
     }
 
     @GetMapping("/{public_id}")
-    public ResponseEntity<CategoryResponse> getCategory(@PathVariable("public_id") String publicId) {
+    public ResponseEntity<CategoryResponse> getCategory(@PathVariable("public_id") String publicId, WebRequest webRequest) {
 
         UUID uuid = UUID.fromString(publicId);
-        CategoryResponse response = categoryService.getCategoryById(uuid);
-        return ResponseEntity.ok(response);
+        return EntityTags.conditional(webRequest, categoryService.getCategoryVersion(uuid), () -> categoryService.getCategoryById(uuid));
     }
 
     @GetMapping
@@ -46,6 +51,14 @@ public class CategoryController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{public_id}/books")
+    public ResponseEntity<PagedBookResponse> getCategoryBooks(@PathVariable("public_id") String publicId,
+            @Valid @ModelAttribute RelatedBooksRequest request) {
+
+        PagedBookResponse response = bookService.getBooksByCategory(UUID.fromString(publicId), request);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{public_id}")
     public ResponseEntity<CategoryResponse> updateCategory(@PathVariable("public_id") String publicId,
             @Valid @RequestBody UpdateCategoryRequest request) {
@@ -6,12 +6,14 @@ import com.library.catalog.dto.request.UpdatePublisherRequest;
 import com.library.catalog.dto.response.PagedPublisherResponse;
 import com.library.catalog.dto.response.PublisherResponse;
 import com.library.catalog.framework.annotation.ValidUuid;
+import com.library.catalog.framework.web.EntityTags;
 import com.library.catalog.service.PublisherService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
@@ -33,11 +35,10 @@ public class PublisherController {
     }
 
     @GetMapping("/{public_id}")
-    public ResponseEntity<PublisherResponse> getPublisher(@PathVariable("public_id") @ValidUuid String publicId) {
+    public ResponseEntity<PublisherResponse> getPublisher(@PathVariable("public_id") @ValidUuid String publicId, WebRequest webRequest) {
 
         UUID uuid = UUID.fromString(publicId);
-        PublisherResponse response = publisherService.getPublisherByPublicId(uuid);
-        return ResponseEntity.ok(response);
+        return EntityTags.conditional(webRequest, publisherService.getPublisherVersion(uuid), () -> publisherService.getPublisherByPublicId(uuid));
     }
 
     @GetMapping
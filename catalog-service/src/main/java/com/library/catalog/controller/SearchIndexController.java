@@ -0,0 +1,35 @@
+package com.library.catalog.controller;
+
+import com.library.catalog.framework.search.BookSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/search-index")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexController {
+
+    private final BookSearchIndex bookSearchIndex;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BookSearchIndex.IndexStats> getStats() {
+
+        return ResponseEntity.ok(bookSearchIndex.getStats());
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BookSearchIndex.IndexStats> rebuild() {
+        log.info("Manual book search index rebuild triggered");
+
+        return ResponseEntity.ok(bookSearchIndex.rebuild());
+    }
+}
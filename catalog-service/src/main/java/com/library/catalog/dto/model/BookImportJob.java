@@ -0,0 +1,106 @@
+package com.library.catalog.dto.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a bulk book import. Counters are updated by the worker thread and read by status
+ * requests, so they are atomics; only the first {@link #MAX_REPORTED_ERRORS} row errors are kept.
+ */
+@Getter
+public class BookImportJob {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    public record RowError(long row, String isbn, String message) {
+    }
+
+    private final UUID jobId = UUID.randomUUID();
+
+    private final String format;
+
+    private final String submittedBy;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.RUNNING;
+
+    private volatile LocalDateTime finishedAt;
+
+    private volatile String failureReason;
+
+    private final AtomicLong processedRows = new AtomicLong();
+
+    private final AtomicLong importedRows = new AtomicLong();
+
+    private final AtomicLong skippedRows = new AtomicLong();
+
+    private final AtomicLong failedRows = new AtomicLong();
+
+    private final List<RowError> errors = new ArrayList<>();
+
+    public BookImportJob(String format, String submittedBy) {
+        this.format = format;
+        this.submittedBy = submittedBy;
+    }
+
+    public void rowProcessed() {
+        processedRows.incrementAndGet();
+    }
+
+    public void rowsImported(int count) {
+        importedRows.addAndGet(count);
+    }
+
+    public void rowSkipped(long row, String isbn, String reason) {
+        skippedRows.incrementAndGet();
+        addError(row, isbn, reason);
+    }
+
+    public void rowFailed(long row, String isbn, String reason) {
+        failedRows.incrementAndGet();
+        addError(row, isbn, reason);
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        this.failureReason = reason;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public boolean isErrorsTruncated() {
+        return skippedRows.get() + failedRows.get() > MAX_REPORTED_ERRORS;
+    }
+
+    private void addError(long row, String isbn, String reason) {
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, isbn, reason));
+            }
+        }
+    }
+}
@@ -9,9 +9,11 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Set;
 
 @Data
 @Builder
@@ -25,6 +27,7 @@ public class AuthorSearchRequest implements Serializable {
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("name", "createdAt");
 
     @Min(value = 0, message = "Page number must be non-negative")
     @Builder.Default
@@ -47,6 +50,13 @@ public class AuthorSearchRequest implements Serializable {
     @Builder.Default
     private String order = "asc";
 
+    @Size(max = 512, message = "Cursor must not exceed 512 characters")
+    private String after;
+
+    @Pattern(regexp = "^(offset|cursor)$", message = "Pagination mode must be either 'offset' or 'cursor'")
+    @Builder.Default
+    private String pagination = "offset";
+
     public Pageable toPageable() {
         Sort sort = Sort.by(validateSortField(sortBy));
         if ("desc".equalsIgnoreCase(order)) {
@@ -57,6 +67,23 @@ public class AuthorSearchRequest implements Serializable {
         return PageRequest.of(page, size, sort);
     }
 
+    public boolean useCursor() {
+        return "cursor".equalsIgnoreCase(pagination) || StringUtils.hasText(after);
+    }
+
+    public String keysetSortBy() {
+        String field = validateSortField(sortBy);
+        if (!KEYSET_SORT_FIELDS.contains(field)) {
+            throw EntityValidationException.invalidField("Author", "sortBy", field,
+                    "Cursor pagination supports sorting by: name, createdAt");
+        }
+        return field;
+    }
+
+    public Sort.Direction keysetDirection() {
+        return "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
     private String validateSortField(String sortField) {
         // Define allowed sort fields for Author entity
         return switch (sortField.toLowerCase()) {
@@ -0,0 +1,21 @@
+package com.library.catalog.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchLookupRequest {
+
+    @NotEmpty(message = "At least one book ID is required")
+    @Size(max = 500, message = "At most 500 books can be looked up at once")
+    private List<@NotNull(message = "Book ID must not be null") UUID> publicIds;
+}
@@ -0,0 +1,20 @@
+package com.library.catalog.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCopyBarcodeLookupRequest {
+
+    @NotEmpty(message = "At least one barcode is required")
+    @Size(max = 200, message = "At most 200 barcodes can be looked up at once")
+    private List<@NotBlank(message = "Barcode must not be blank") String> barcodes;
+}
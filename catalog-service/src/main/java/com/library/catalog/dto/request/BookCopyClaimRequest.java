@@ -0,0 +1,16 @@
+package com.library.catalog.dto.request;
+
+import com.library.catalog.repository.BookCopyStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCopyClaimRequest {
+
+    @NotNull(message = "Target status is required")
+    private BookCopyStatus targetStatus; // BORROWED or RESERVED
+}
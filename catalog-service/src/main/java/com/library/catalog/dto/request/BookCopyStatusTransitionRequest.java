@@ -0,0 +1,19 @@
+package com.library.catalog.dto.request;
+
+import com.library.catalog.repository.BookCopyStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCopyStatusTransitionRequest {
+
+    @NotNull(message = "Expected status is required")
+    private BookCopyStatus expectedStatus; // Status the caller last saw; the change is rejected if it moved since
+
+    @NotNull(message = "Target status is required")
+    private BookCopyStatus targetStatus;
+}
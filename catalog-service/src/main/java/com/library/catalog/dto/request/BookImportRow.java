@@ -0,0 +1,65 @@
+package com.library.catalog.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One record of a bulk import feed. Authors, categories and the publisher are referenced by name,
+ * since feeds come from outside the catalog and do not know internal ids.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportRow {
+
+    @NotBlank(message = "Book title is required")
+    @Size(max = 255, message = "Book title must not exceed 255 characters")
+    private String title;
+
+    @NotBlank(message = "ISBN is required")
+    @Size(max = 50, message = "ISBN must not exceed 50 characters")
+    private String isbn;
+
+    @NotEmpty(message = "At least one author is required")
+    private List<@NotBlank(message = "Author name must not be blank") String> authors;
+
+    @NotEmpty(message = "At least one category is required")
+    private List<@NotBlank(message = "Category name must not be blank") String> categories;
+
+    @NotBlank(message = "Publisher is required")
+    private String publisher;
+
+    @NotNull(message = "Publication year is required")
+    @Min(value = 1, message = "Publication year must be a positive number")
+    @Max(value = 2100, message = "Publication year cannot be in the far future")
+    private Short publicationYear;
+
+    @Size(max = 20, message = "Language must not exceed 20 characters")
+    private String language;
+
+    @Positive(message = "Number of pages must be a positive number")
+    private Integer pages;
+
+    @Size(max = 5000, message = "Description must not exceed 5000 characters")
+    private String description;
+
+    // Number of copies to create, numbered C001, C002, ...
+    @Min(value = 0, message = "Copies must not be negative")
+    @Max(value = 100, message = "Copies must not exceed 100 per title")
+    private Integer copies;
+
+    @Size(max = 50, message = "Shelf location must not exceed 50 characters")
+    private String location;
+
+    private String condition; // excellent, good, fair, poor, damaged
+}
@@ -1,7 +1,11 @@
 package com.library.catalog.dto.request;
 
+import com.library.catalog.aop.EntityValidationException;
+import com.library.catalog.framework.search.BookFacet;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +17,7 @@ import org.springframework.util.StringUtils;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Set;
 
 @Data
 @Builder
@@ -26,6 +31,7 @@ public class BookSearchRequest implements Serializable {
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("title", "isbn", "publicationYear", "createdAt");
 
     @Min(value = 0, message = "Page number must be non-negative")
     @Builder.Default
@@ -56,6 +62,17 @@ public class BookSearchRequest implements Serializable {
 
     private String language;
 
+    @Size(max = 512, message = "Cursor must not exceed 512 characters")
+    private String after;
+
+    @Pattern(regexp = "^(offset|cursor)$", message = "Pagination mode must be either 'offset' or 'cursor'")
+    @Builder.Default
+    private String pagination = "offset";
+
+    // Comma separated facet names: category, language, publicationYear, publisher
+    @Size(max = 100, message = "Facets must not exceed 100 characters")
+    private String facets;
+
     public Pageable toPageable() {
         Sort sort = Sort.unsorted();
         if (StringUtils.hasText(sortBy)) {
@@ -68,4 +85,25 @@ public class BookSearchRequest implements Serializable {
         }
         return PageRequest.of(page, size, sort);
     }
+
+    public Set<BookFacet> requestedFacets() {
+        return BookFacet.parse(facets);
+    }
+
+    public boolean useCursor() {
+        return "cursor".equalsIgnoreCase(pagination) || StringUtils.hasText(after);
+    }
+
+    public String keysetSortBy() {
+        String field = StringUtils.hasText(sortBy) ? sortBy : "title";
+        if (!KEYSET_SORT_FIELDS.contains(field)) {
+            throw EntityValidationException.invalidField("Book", "sortBy", field,
+                    "Cursor pagination supports sorting by: title, isbn, publicationYear, createdAt");
+        }
+        return field;
+    }
+
+    public Sort.Direction keysetDirection() {
+        return "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
 }
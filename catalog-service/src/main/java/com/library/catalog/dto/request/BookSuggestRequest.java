@@ -0,0 +1,24 @@
+package com.library.catalog.dto.request;
+
+import com.library.catalog.framework.search.BookSuggestIndex;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class BookSuggestRequest {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    @NotBlank(message = "Query is required")
+    @Size(max = 100, message = "Query must not exceed 100 characters")
+    private String q;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = BookSuggestIndex.MAX_LIMIT, message = "Limit must not exceed " + BookSuggestIndex.MAX_LIMIT)
+    private Integer limit = DEFAULT_LIMIT;
+}
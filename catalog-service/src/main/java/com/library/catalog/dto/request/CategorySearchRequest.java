@@ -1,5 +1,6 @@
 package com.library.catalog.dto.request;
 
+import com.library.catalog.aop.EntityValidationException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,9 +10,14 @@ import lombok.experimental.FieldDefaults;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
 
 @Data
 @Builder
@@ -20,6 +26,8 @@ import jakarta.validation.constraints.Min;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class CategorySearchRequest {
 
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("name", "slug", "createdAt");
+
     @Builder.Default
     @Min(value = 0, message = "Page number must be non-negative")
     int page = 0;
@@ -39,6 +47,13 @@ public class CategorySearchRequest {
     @Builder.Default
     String order = "asc";
 
+    @Size(max = 512, message = "Cursor must not exceed 512 characters")
+    String after;
+
+    @Builder.Default
+    @Pattern(regexp = "^(offset|cursor)$", message = "Pagination mode must be either 'offset' or 'cursor'")
+    String pagination = "offset";
+
     public Pageable toPageable() {
         Sort.Direction direction = "asc".equalsIgnoreCase(order)
                 ? Sort.Direction.ASC
@@ -46,4 +61,21 @@ public class CategorySearchRequest {
         Sort sort = Sort.by(direction, sortBy);
         return PageRequest.of(page, size, sort);
     }
+
+    public boolean useCursor() {
+        return "cursor".equalsIgnoreCase(pagination) || StringUtils.hasText(after);
+    }
+
+    public String keysetSortBy() {
+        String field = StringUtils.hasText(sortBy) ? sortBy : "name";
+        if (!KEYSET_SORT_FIELDS.contains(field)) {
+            throw EntityValidationException.invalidField("Category", "sortBy", field,
+                    "Cursor pagination supports sorting by: name, slug, createdAt");
+        }
+        return field;
+    }
+
+    public Sort.Direction keysetDirection() {
+        return "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
 }
@@ -64,9 +64,8 @@ public class CreateBookWithCopiesRequest {
     @AllArgsConstructor
     public static class BookCopyRequest {
 
-        @NotBlank(message = "Copy number is required")
         @Size(max = 20, message = "Copy number must not exceed 20 characters")
-        private String copyNumber;
+        private String copyNumber; // Optional, the next free number is allocated when omitted
 
         @NotBlank(message = "Physical condition is required")
         private String condition; // excellent, good, fair, poor, damaged
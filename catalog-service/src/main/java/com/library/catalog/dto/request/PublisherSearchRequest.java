@@ -1,7 +1,10 @@
 package com.library.catalog.dto.request;
 
+import com.library.catalog.aop.EntityValidationException;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +16,7 @@ import org.springframework.util.StringUtils;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Set;
 
 @Data
 @Builder
@@ -26,6 +30,7 @@ public class PublisherSearchRequest implements Serializable {
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("name", "createdAt");
 
     @Min(value = 0, message = "Page number must be non-negative")
     @Builder.Default
@@ -44,6 +49,13 @@ public class PublisherSearchRequest implements Serializable {
     @Builder.Default
     private String order = "ASC";
 
+    @Size(max = 512, message = "Cursor must not exceed 512 characters")
+    private String after;
+
+    @Pattern(regexp = "^(offset|cursor)$", message = "Pagination mode must be either 'offset' or 'cursor'")
+    @Builder.Default
+    private String pagination = "offset";
+
     public Pageable toPageable() {
         Sort sort = Sort.unsorted();
         if (StringUtils.hasText(sortBy)) {
@@ -56,4 +68,21 @@ public class PublisherSearchRequest implements Serializable {
         }
         return PageRequest.of(page, size, sort);
     }
+
+    public boolean useCursor() {
+        return "cursor".equalsIgnoreCase(pagination) || StringUtils.hasText(after);
+    }
+
+    public String keysetSortBy() {
+        String field = StringUtils.hasText(sortBy) ? sortBy : "name";
+        if (!KEYSET_SORT_FIELDS.contains(field)) {
+            throw EntityValidationException.invalidField("Publisher", "sortBy", field,
+                    "Cursor pagination supports sorting by: name, createdAt");
+        }
+        return field;
+    }
+
+    public Sort.Direction keysetDirection() {
+        return "DESC".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
 }
@@ -0,0 +1,25 @@
+package com.library.catalog.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset page of the books linked to an author or a category, in book id order.
+ */
+@Data
+@NoArgsConstructor
+public class RelatedBooksRequest {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = MAX_SIZE, message = "Page size must not exceed " + MAX_SIZE)
+    private Integer size = DEFAULT_SIZE;
+
+    @Size(max = 512, message = "Cursor must not exceed 512 characters")
+    private String after;
+}
@@ -67,9 +67,8 @@ public class UpdateBookWithCopiesRequest {
 
         private UUID id; // Copy public ID for existing copies (null for new copies)
 
-        @NotBlank(message = "Copy number is required")
         @Size(max = 20, message = "Copy number must not exceed 20 characters")
-        private String copyNumber;
+        private String copyNumber; // Optional, the next free number is allocated when omitted
 
         @NotBlank(message = "Physical condition is required")
         private String condition; // excellent, good, fair, poor, damaged
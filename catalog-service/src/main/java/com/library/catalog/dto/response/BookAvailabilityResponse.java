@@ -0,0 +1,24 @@
+package com.library.catalog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookAvailabilityResponse {
+
+    private UUID bookId; // Book publicId
+    private int totalCopies;
+    private int availableCopies;
+    private int borrowedCopies;
+    private int reservedCopies;
+    private int borrowableCopies; // Available and not damaged
+    private boolean borrowable;
+    private String status;
+    private LocalDateTime updatedAt;
+}
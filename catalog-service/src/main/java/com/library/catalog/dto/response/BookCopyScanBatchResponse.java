@@ -0,0 +1,16 @@
+package com.library.catalog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCopyScanBatchResponse {
+
+    private List<BookCopyScanResponse> copies; // In the order the barcodes were scanned
+    private List<String> notFound;
+}
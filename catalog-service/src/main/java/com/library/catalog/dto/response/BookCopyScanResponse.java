@@ -0,0 +1,27 @@
+package com.library.catalog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCopyScanResponse {
+
+    private BookDetailResponse.BookCopyInfo copy;
+    private BookSummary book;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookSummary {
+        private UUID id; // Book publicId
+        private String title;
+        private String isbn;
+        private String status; // Overall book status from the availability projection
+        private int availableCopies;
+    }
+}
@@ -37,7 +37,7 @@ public class BookDetailResponse {
         private String status;
         private String condition;
         private String location;
-        private String barcode; // Generated from copy number for now
+        private String barcode;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
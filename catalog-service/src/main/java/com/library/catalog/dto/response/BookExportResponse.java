@@ -0,0 +1,20 @@
+package com.library.catalog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the NDJSON catalog export: the book as returned by the list endpoint plus its copy counts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookExportResponse {
+
+    @JsonUnwrapped
+    private BookResponse book;
+    private long totalCopies;
+    private long availableCopies;
+}
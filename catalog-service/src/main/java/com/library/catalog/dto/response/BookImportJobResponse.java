@@ -0,0 +1,31 @@
+package com.library.catalog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.library.catalog.dto.model.BookImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookImportJobResponse {
+
+    private UUID jobId;
+    private String status;
+    private String format;
+    private long processedRows;
+    private long importedRows;
+    private long skippedRows;
+    private long failedRows;
+    private List<BookImportJob.RowError> errors;
+    private boolean errorsTruncated;
+    private String failureReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
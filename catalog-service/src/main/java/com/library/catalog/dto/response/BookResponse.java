@@ -24,6 +24,7 @@ public class BookResponse {
     private PublisherInfo publisher;
     private List<AuthorInfo> authors;
     private List<CategoryInfo> categories;
+    private String status; // Overall book status from the availability projection
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String createdBy;
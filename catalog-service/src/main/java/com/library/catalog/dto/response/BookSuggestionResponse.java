@@ -0,0 +1,19 @@
+package com.library.catalog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookSuggestionResponse {
+
+    private String type; // title, author or category
+    private String text;
+    private UUID bookId; // Only set for titles
+}
@@ -0,0 +1,17 @@
+package com.library.catalog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSummaryBatchResponse {
+
+    private List<BookSummaryResponse> books; // In the order the ids were requested
+    private List<UUID> notFound;
+}
@@ -0,0 +1,22 @@
+package com.library.catalog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSummaryResponse {
+
+    private UUID id; // Book publicId
+    private String title;
+    private String isbn;
+    private List<String> authors;
+    private String status; // Overall book status from the availability projection
+    private int totalCopies;
+    private int availableCopies;
+}
@@ -0,0 +1,14 @@
+package com.library.catalog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetValueResponse {
+
+    private String value; // Usable as the matching search filter
+    private long count;
+}
@@ -0,0 +1,35 @@
+package com.library.catalog.framework.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookCacheEvictionConsumer {
+
+    private final BookDetailCache bookDetailCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final RelatedBooksCache relatedBooksCache;
+
+    // A group per running instance so that every replica receives every eviction
+    @KafkaListener(
+            topics = "${catalog.cache.eviction.topic:catalog-cache-evictions}",
+            groupId = "catalog-cache-${random.uuid}",
+            properties = {"spring.json.value.default.type=com.library.catalog.framework.cache.BookCacheEvictionMessage"})
+    public void handleEviction(BookCacheEvictionMessage message) {
+        if (message.isRelatedBooks()) {
+            log.debug("Received related books eviction for {} {}", message.getOwner(), message.getOwnerIds());
+            relatedBooksCache.onRemoteEviction(message);
+            return;
+        }
+        log.debug("Received cache eviction for book {}", message.getPublicId());
+        boolean applied = bookDetailCache.onRemoteEviction(message);
+        // A full eviction means an author, category or publisher changed on another replica
+        if (applied && message.getPublicId() == null && referenceDataCache.isReady()) {
+            referenceDataCache.reload();
+        }
+    }
+}
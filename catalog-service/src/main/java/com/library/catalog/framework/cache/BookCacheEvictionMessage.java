@@ -0,0 +1,47 @@
+package com.library.catalog.framework.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Broadcast to every catalog-service replica when cached book details or related-book pages become stale.
+ * For book details a {@code null} publicId means every entry is stale (e.g. an author or publisher was renamed);
+ * for related-book pages {@code null} owner ids do.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCacheEvictionMessage {
+
+    public enum Target {
+        BOOK_DETAIL, RELATED_BOOKS
+    }
+
+    // Null in messages from replicas that only knew book detail evictions
+    private Target target;
+
+    private UUID publicId;
+
+    private RelatedBooksCache.Owner owner;
+
+    private Set<Long> ownerIds;
+
+    private String originInstanceId;
+
+    public BookCacheEvictionMessage(UUID publicId, String originInstanceId) {
+        this(Target.BOOK_DETAIL, publicId, null, null, originInstanceId);
+    }
+
+    public static BookCacheEvictionMessage relatedBooks(RelatedBooksCache.Owner owner, Set<Long> ownerIds,
+                                                        String originInstanceId) {
+        return new BookCacheEvictionMessage(Target.RELATED_BOOKS, null, owner, ownerIds, originInstanceId);
+    }
+
+    public boolean isRelatedBooks() {
+        return target == Target.RELATED_BOOKS;
+    }
+}
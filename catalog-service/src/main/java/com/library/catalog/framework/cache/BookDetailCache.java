@@ -0,0 +1,139 @@
+package com.library.catalog.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.library.catalog.dto.response.BookDetailResponse;
+import com.library.catalog.framework.web.Versioned;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL'd local cache of book detail responses keyed by book public id, each stored with its entity tag.
+ * Evictions are applied after the surrounding transaction commits and broadcast over Kafka so that
+ * every replica drops the entry; the TTL bounds staleness if a broadcast is missed.
+ */
+@Slf4j
+@Component
+public class BookDetailCache {
+
+    private static final String CACHE_NAME = "bookDetail";
+
+    private final Cache<UUID, Versioned<BookDetailResponse>> cache;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String evictionTopic;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Counter localEvictions;
+    private final Counter remoteEvictions;
+
+    public BookDetailCache(KafkaTemplate<String, Object> kafkaTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${catalog.cache.book-detail.enabled:true}") boolean enabled,
+                           @Value("${catalog.cache.book-detail.maximum-size:10000}") long maximumSize,
+                           @Value("${catalog.cache.book-detail.ttl:PT10M}") Duration ttl,
+                           @Value("${catalog.cache.eviction.topic:catalog-cache-evictions}") String evictionTopic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.enabled = enabled;
+        this.evictionTopic = evictionTopic;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.puts, cache.evictions and cache.size under /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.localEvictions = Counter.builder("catalog.cache.invalidations")
+                .tag("cache", CACHE_NAME).tag("source", "local")
+                .register(meterRegistry);
+        this.remoteEvictions = Counter.builder("catalog.cache.invalidations")
+                .tag("cache", CACHE_NAME).tag("source", "remote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached detail, loading it on a miss. Loader exceptions propagate and nothing is cached.
+     */
+    public Versioned<BookDetailResponse> get(UUID publicId, Function<UUID, Versioned<BookDetailResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(publicId);
+        }
+        return cache.get(publicId, loader);
+    }
+
+    /**
+     * Returns the cached detail without loading it, or {@code null}.
+     */
+    public Versioned<BookDetailResponse> getIfPresent(UUID publicId) {
+        return enabled ? cache.getIfPresent(publicId) : null;
+    }
+
+    public void evict(UUID publicId) {
+        afterCommit(() -> {
+            cache.invalidate(publicId);
+            localEvictions.increment();
+            broadcast(new BookCacheEvictionMessage(publicId, instanceId));
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            cache.invalidateAll();
+            localEvictions.increment();
+            broadcast(new BookCacheEvictionMessage(null, instanceId));
+        });
+    }
+
+    /**
+     * Applies an eviction received from another replica. Returns {@code false} for this instance's own broadcasts.
+     */
+    public boolean onRemoteEviction(BookCacheEvictionMessage message) {
+        if (instanceId.equals(message.getOriginInstanceId())) {
+            return false;
+        }
+        if (message.getPublicId() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(message.getPublicId());
+        }
+        remoteEvictions.increment();
+        return true;
+    }
+
+    private void broadcast(BookCacheEvictionMessage message) {
+        try {
+            String key = message.getPublicId() != null ? message.getPublicId().toString() : null;
+            kafkaTemplate.send(evictionTopic, key, message).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("Failed to broadcast cache eviction for book {}: {}", message.getPublicId(), ex.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            // Other replicas fall back to the TTL; the local entry is already gone
+            log.error("Error broadcasting cache eviction for book {}: {}", message.getPublicId(), e.getMessage(), e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
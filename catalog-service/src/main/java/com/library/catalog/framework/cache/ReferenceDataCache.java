@@ -0,0 +1,202 @@
+package com.library.catalog.framework.cache;
+
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.AuthorRepository;
+import com.library.catalog.repository.BaseSoftDeleteEntity;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.CategoryRepository;
+import com.library.catalog.repository.Publisher;
+import com.library.catalog.repository.PublisherRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Fully loaded in-memory copy of the active authors, categories and publishers, keyed by internal id.
+ * Loaded at startup and kept current by the author, category and publisher services after commit.
+ * Ids that are not held (e.g. created on another replica since the last load) fall back to one batched query.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final Counter misses;
+
+    @Value("${catalog.cache.reference-data.enabled:true}")
+    private boolean enabled;
+
+    private volatile Map<Long, Author> authors = new ConcurrentHashMap<>();
+    private volatile Map<Long, Category> categories = new ConcurrentHashMap<>();
+    private volatile Map<Long, Publisher> publishers = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public ReferenceDataCache(AuthorRepository authorRepository,
+                              CategoryRepository categoryRepository,
+                              PublisherRepository publisherRepository,
+                              MeterRegistry meterRegistry) {
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+        this.publisherRepository = publisherRepository;
+        this.misses = Counter.builder("catalog.cache.reference-data.misses")
+                .description("Reference entities that had to be loaded from the database")
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.reference-data.size", this, cache -> cache.authors.size())
+                .tag("type", "author")
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.reference-data.size", this, cache -> cache.categories.size())
+                .tag("type", "category")
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.reference-data.size", this, cache -> cache.publishers.size())
+                .tag("type", "publisher")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Reference data cache is disabled, authors, categories and publishers will be loaded per request");
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Failed to load reference data cache, falling back to the database", e);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public void reload() {
+        Map<Long, Author> loadedAuthors = loadAll(authorRepository::findByDeletedAtIsNull, Author::getId);
+        Map<Long, Category> loadedCategories = loadAll(categoryRepository::findByDeletedAtIsNull, Category::getId);
+        Map<Long, Publisher> loadedPublishers = loadAll(publisherRepository::findByDeletedAtIsNull, Publisher::getId);
+        this.authors = loadedAuthors;
+        this.categories = loadedCategories;
+        this.publishers = loadedPublishers;
+        this.ready = true;
+        log.info("Reference data cache loaded: {} authors, {} categories, {} publishers",
+                loadedAuthors.size(), loadedCategories.size(), loadedPublishers.size());
+    }
+
+    public Map<Long, Author> getAuthors(Collection<Long> ids) {
+        return resolve(ids, authors, authorRepository::findAllById, Author::getId);
+    }
+
+    public Map<Long, Category> getCategories(Collection<Long> ids) {
+        return resolve(ids, categories, categoryRepository::findAllById, Category::getId);
+    }
+
+    public Map<Long, Publisher> getPublishers(Collection<Long> ids) {
+        return resolve(ids, publishers, publisherRepository::findAllById, Publisher::getId);
+    }
+
+    public void putAuthor(Author author) {
+        afterCommit(() -> put(authors, author.getId(), author));
+    }
+
+    public void removeAuthor(Long authorId) {
+        afterCommit(() -> authors.remove(authorId));
+    }
+
+    public void putCategory(Category category) {
+        afterCommit(() -> put(categories, category.getId(), category));
+    }
+
+    public void removeCategory(Long categoryId) {
+        afterCommit(() -> categories.remove(categoryId));
+    }
+
+    public void putPublisher(Publisher publisher) {
+        afterCommit(() -> put(publishers, publisher.getId(), publisher));
+    }
+
+    public void removePublisher(Long publisherId) {
+        afterCommit(() -> publishers.remove(publisherId));
+    }
+
+    private <T extends BaseSoftDeleteEntity> Map<Long, T> resolve(Collection<Long> ids, Map<Long, T> cached,
+                                                                  Function<List<Long>, List<T>> loader,
+                                                                  Function<T, Long> idOf) {
+        Map<Long, T> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        boolean useCache = isReady();
+        for (Long id : ids) {
+            T entity = useCache ? cached.get(id) : null;
+            if (entity != null) {
+                result.put(id, entity);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            if (useCache) {
+                misses.increment(missing.size());
+            }
+            loader.apply(missing).stream()
+                    .filter(entity -> !entity.isDeleted())
+                    .forEach(entity -> result.put(idOf.apply(entity), entity));
+        }
+        return result;
+    }
+
+    private <T> void put(Map<Long, T> cached, Long id, T entity) {
+        if (isReady()) {
+            cached.put(id, entity);
+        }
+    }
+
+    // Read from the primary, a reload after a remote eviction must not pick up a lagging replica's rows
+    private static <T> Map<Long, T> loadAll(Function<Pageable, Page<T>> pageLoader, Function<T, Long> idOf) {
+        return ReplicaRoutingDataSource.onPrimary(() -> {
+            Map<Long, T> loaded = new ConcurrentHashMap<>();
+            int pageNumber = 0;
+            Page<T> page;
+            do {
+                page = pageLoader.apply(PageRequest.of(pageNumber++, LOAD_BATCH_SIZE, Sort.by("id")));
+                page.getContent().forEach(entity -> loaded.put(idOf.apply(entity), entity));
+            } while (page.hasNext());
+            return loaded;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
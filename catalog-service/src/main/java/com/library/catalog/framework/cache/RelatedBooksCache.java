@@ -0,0 +1,149 @@
+package com.library.catalog.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.library.catalog.dto.response.PagedBookResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Local cache of the first page of an author's or a category's books, keyed by the owner's internal id and
+ * page size. Later pages are cheap index seeks and are not cached. Book and reference data writes evict
+ * after commit and broadcast the eviction to the other replicas on the book cache eviction topic; copy status
+ * changes do not evict, so availability counts in a cached page may lag by up to the TTL.
+ */
+@Slf4j
+@Component
+public class RelatedBooksCache {
+
+    private static final String CACHE_NAME = "relatedBooks";
+
+    public enum Owner {
+        AUTHOR, CATEGORY
+    }
+
+    private record Key(Owner owner, Long ownerId, int size) {
+    }
+
+    private final Cache<Key, PagedBookResponse> cache;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String evictionTopic;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Counter localEvictions;
+    private final Counter remoteEvictions;
+
+    public RelatedBooksCache(KafkaTemplate<String, Object> kafkaTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${catalog.cache.related-books.enabled:true}") boolean enabled,
+                             @Value("${catalog.cache.related-books.maximum-size:5000}") long maximumSize,
+                             @Value("${catalog.cache.related-books.ttl:PT1M}") Duration ttl,
+                             @Value("${catalog.cache.eviction.topic:catalog-cache-evictions}") String evictionTopic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.evictionTopic = evictionTopic;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.localEvictions = Counter.builder("catalog.cache.invalidations")
+                .tag("cache", CACHE_NAME).tag("source", "local")
+                .register(meterRegistry);
+        this.remoteEvictions = Counter.builder("catalog.cache.invalidations")
+                .tag("cache", CACHE_NAME).tag("source", "remote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached first page, loading it on a miss. Loader exceptions propagate and nothing is cached.
+     */
+    public PagedBookResponse getFirstPage(Owner owner, Long ownerId, int size, Supplier<PagedBookResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(new Key(owner, ownerId, size), key -> loader.get());
+    }
+
+    public void evict(Owner owner, Collection<Long> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = Set.copyOf(ownerIds);
+        afterCommit(() -> {
+            invalidate(owner, ids);
+            localEvictions.increment();
+            broadcast(BookCacheEvictionMessage.relatedBooks(owner, ids, instanceId));
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            cache.invalidateAll();
+            localEvictions.increment();
+            broadcast(BookCacheEvictionMessage.relatedBooks(null, null, instanceId));
+        });
+    }
+
+    /**
+     * Applies an eviction received from another replica, ignoring this instance's own broadcasts.
+     */
+    public void onRemoteEviction(BookCacheEvictionMessage message) {
+        if (instanceId.equals(message.getOriginInstanceId())) {
+            return;
+        }
+        if (message.getOwnerIds() == null) {
+            cache.invalidateAll();
+        } else {
+            invalidate(message.getOwner(), message.getOwnerIds());
+        }
+        remoteEvictions.increment();
+    }
+
+    private void invalidate(Owner owner, Set<Long> ownerIds) {
+        cache.asMap().keySet().removeIf(key -> key.owner() == owner && ownerIds.contains(key.ownerId()));
+    }
+
+    private void broadcast(BookCacheEvictionMessage message) {
+        try {
+            String key = message.getOwner() != null ? message.getOwner().name() : null;
+            kafkaTemplate.send(evictionTopic, key, message).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("Failed to broadcast related books eviction for {} {}: {}",
+                            message.getOwner(), message.getOwnerIds(), ex.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            // Other replicas fall back to the TTL; the local entries are already gone
+            log.error("Error broadcasting related books eviction for {} {}: {}",
+                    message.getOwner(), message.getOwnerIds(), e.getMessage(), e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
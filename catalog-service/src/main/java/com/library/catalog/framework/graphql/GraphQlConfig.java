@@ -0,0 +1,33 @@
+package com.library.catalog.framework.graphql;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rejects GraphQL queries before execution when they nest too deeply or would resolve too many fields.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    private static final String PAGE_SIZE_ARGUMENT = "size";
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${catalog.graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    // Every field costs one, and a paged field costs its selection once per requested element
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(@Value("${catalog.graphql.max-complexity:2000}") int maxComplexity) {
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            Object size = environment.getArguments().get(PAGE_SIZE_ARGUMENT);
+            int multiplier = size instanceof Integer pageSize ? Math.max(pageSize, 1) : 1;
+            return 1 + multiplier * childComplexity;
+        };
+        return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+    }
+}
@@ -0,0 +1,24 @@
+package com.library.catalog.framework.importer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BookImportConfig {
+
+    // Imports hold a connection for each chunk they write, so keep concurrency well below the pool size
+    @Bean
+    public ThreadPoolTaskExecutor bookImportExecutor(@Value("${catalog.import.concurrency:2}") int concurrency,
+                                                     @Value("${catalog.import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("book-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,169 @@
+package com.library.catalog.framework.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.library.catalog.aop.EntityValidationException;
+import com.library.catalog.dto.request.BookImportRow;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a bulk import feed one record at a time so that arbitrarily large feeds are never held in memory.
+ * Records that cannot be parsed are returned with an error instead of aborting the read.
+ */
+public abstract class BookImportReader implements Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    public static final String LIST_SEPARATOR = ";";
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (TEXT_CSV.isCompatibleWith(mediaType)) {
+                return CSV;
+            }
+            if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+                return NDJSON;
+            }
+            throw EntityValidationException.invalidField("BookImport", "Content-Type", contentType,
+                    "supported formats are text/csv and application/x-ndjson");
+        }
+    }
+
+    public record ParsedRow(long rowNumber, BookImportRow row, String error) {
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    public static BookImportReader open(Format format, InputStream input, ObjectMapper objectMapper) throws IOException {
+        return format == Format.CSV ? new CsvReader(input) : new NdjsonReader(input, objectMapper);
+    }
+
+    /**
+     * Returns the next record, or {@code null} once the feed is exhausted.
+     */
+    public abstract ParsedRow next() throws IOException;
+
+    private static final class NdjsonReader extends BookImportReader {
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long lineNumber;
+
+        private NdjsonReader(InputStream input, ObjectMapper objectMapper) {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    try {
+                        return new ParsedRow(lineNumber, objectMapper.readValue(line, BookImportRow.class), null);
+                    } catch (JsonProcessingException e) {
+                        return new ParsedRow(lineNumber, null, "Malformed JSON record: " + e.getOriginalMessage());
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Header-driven CSV reader. Every column is read as text and converted here, so a bad number only
+     * rejects its own row. Multi-valued columns (authors, categories) are separated by {@value #LIST_SEPARATOR}.
+     */
+    private static final class CsvReader extends BookImportReader {
+
+        private final MappingIterator<Map<String, String>> records;
+        private long rowNumber;
+
+        private CsvReader(InputStream input) throws IOException {
+            CsvSchema schema = CsvSchema.emptySchema().withHeader();
+            this.records = new CsvMapper().readerForMapOf(String.class).with(schema).readValues(input);
+            // The header occupies the first line of the feed
+            this.rowNumber = 1;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (!records.hasNextValue()) {
+                return null;
+            }
+            Map<String, String> record = records.nextValue();
+            rowNumber++;
+            try {
+                return new ParsedRow(rowNumber, toRow(record), null);
+            } catch (NumberFormatException e) {
+                return new ParsedRow(rowNumber, null, "Invalid numeric value: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            records.close();
+        }
+
+        private BookImportRow toRow(Map<String, String> record) {
+            BookImportRow row = new BookImportRow();
+            row.setTitle(text(record, "title"));
+            row.setIsbn(text(record, "isbn"));
+            row.setAuthors(list(record, "authors"));
+            row.setCategories(list(record, "categories"));
+            row.setPublisher(text(record, "publisher"));
+            String publicationYear = text(record, "publicationYear");
+            row.setPublicationYear(publicationYear != null ? Short.valueOf(publicationYear) : null);
+            row.setLanguage(text(record, "language"));
+            String pages = text(record, "pages");
+            row.setPages(pages != null ? Integer.valueOf(pages) : null);
+            row.setDescription(text(record, "description"));
+            String copies = text(record, "copies");
+            row.setCopies(copies != null ? Integer.valueOf(copies) : null);
+            row.setLocation(text(record, "location"));
+            row.setCondition(text(record, "condition"));
+            return row;
+        }
+
+        private static String text(Map<String, String> record, String column) {
+            String value = record.get(column);
+            return StringUtils.hasText(value) ? value.trim() : null;
+        }
+
+        private static List<String> list(Map<String, String> record, String column) {
+            String value = text(record, column);
+            if (value == null) {
+                return null;
+            }
+            return Arrays.stream(value.split(LIST_SEPARATOR))
+                    .map(String::trim)
+                    .filter(StringUtils::hasText)
+                    .toList();
+        }
+    }
+}
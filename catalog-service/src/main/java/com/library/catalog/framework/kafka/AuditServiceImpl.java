@@ -31,26 +31,19 @@ public class AuditServiceImpl implements AuditService {
     @Override
     public void publishEvent(EventType eventType, String entityType, String entityId, 
                            Object oldValue, Object newValue, String userId) {
-        try {
-            log.debug("Publishing {} event for {} with ID: {}", eventType, entityType, entityId);
-
-            AuditEventMessage event = AuditEventBuilder.builder()
-                    .eventType(eventType)
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .oldValue(oldValue)
-                    .newValue(newValue)
-                    .userId(userId)
-                    .build(objectMapper);
-
-            auditEventPublisher.publishEvent(event);
-
-            log.debug("Successfully published {} event for {} with ID: {}", eventType, entityType, entityId);
-
-        } catch (Exception e) {
-            log.error("Failed to publish {} event for {} with ID {}: {}", 
-                     eventType, entityType, entityId, e.getMessage(), e);
-            // Don't throw exception to avoid breaking the main business flow
-        }
+        // The event is written to the outbox in the caller's transaction; a failure must roll the change back
+        log.debug("Publishing {} event for {} with ID: {}", eventType, entityType, entityId);
+
+        AuditEventMessage event = AuditEventBuilder.builder()
+                .eventType(eventType)
+                .entityType(entityType)
+                .entityId(entityId)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .userId(userId)
+                .build(objectMapper);
+
+        auditEventPublisher.publishEvent(event);
+        log.debug("Successfully published {} event for {} with ID: {}", eventType, entityType, entityId);
     }
 }
\ No newline at end of file
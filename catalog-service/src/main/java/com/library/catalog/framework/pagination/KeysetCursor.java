@@ -0,0 +1,133 @@
+package com.library.catalog.framework.pagination;
+
+import com.library.catalog.aop.EntityValidationException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Position after the last row of a slice in {@code (sortBy, id)} order. A null sort value is encoded explicitly
+ * and ranks above every other value, which is the Postgres default: nulls last ascending, first descending.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "\n";
+    // Present values are prefixed so that a null and an empty string encode differently
+    private static final String VALUE_PREFIX = "=";
+    private static final String NULL_VALUE = "";
+
+    private final String sortBy;
+
+    private final Sort.Direction direction;
+
+    private final Long id;
+
+    private final String value;
+
+    public static KeysetCursor of(String sortBy, Sort.Direction direction, Object value, Long id) {
+        return new KeysetCursor(sortBy, direction, id, value != null ? value.toString() : null);
+    }
+
+    /**
+     * Builds the cursor pointing after the last row of a slice, or {@code null} when there is no next slice.
+     */
+    public static <T> String next(List<T> content, boolean hasNext, String sortBy, Sort.Direction direction,
+                                  Function<T, Long> idExtractor) {
+        if (!hasNext || content.isEmpty()) {
+            return null;
+        }
+        T last = content.get(content.size() - 1);
+        Object value = new BeanWrapperImpl(last).getPropertyValue(sortBy);
+        return of(sortBy, direction, value, idExtractor.apply(last)).encode();
+    }
+
+    public static KeysetCursor decode(String token, String expectedSortBy, Sort.Direction expectedDirection) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw invalid(token, "cursor is not a valid token");
+        }
+        if (parts.length != 4 || !(parts[3].equals(NULL_VALUE) || parts[3].startsWith(VALUE_PREFIX))) {
+            throw invalid(token, "cursor is not a valid token");
+        }
+        if (!parts[0].equals(expectedSortBy) || !parts[1].equals(expectedDirection.name())) {
+            throw invalid(token, "cursor was issued for a different sort order");
+        }
+        try {
+            String value = parts[3].equals(NULL_VALUE) ? null : parts[3].substring(VALUE_PREFIX.length());
+            return new KeysetCursor(parts[0], expectedDirection, Long.valueOf(parts[2]), value);
+        } catch (NumberFormatException e) {
+            throw invalid(token, "cursor is not a valid token");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortBy, direction.name(), String.valueOf(id),
+                value != null ? VALUE_PREFIX + value : NULL_VALUE);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isDescending() {
+        return direction.isDescending();
+    }
+
+    public boolean isNullValue() {
+        return value == null;
+    }
+
+    /**
+     * Converts the sort value to the type of the sort field, or returns {@code null} for a null sort value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T valueAs(Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            Object converted;
+            if (type == String.class) {
+                converted = value;
+            } else if (type == LocalDateTime.class) {
+                converted = LocalDateTime.parse(value);
+            } else if (type == LocalDate.class) {
+                converted = LocalDate.parse(value);
+            } else if (type == Short.class) {
+                converted = Short.valueOf(value);
+            } else if (type == Integer.class) {
+                converted = Integer.valueOf(value);
+            } else if (type == Long.class) {
+                converted = Long.valueOf(value);
+            } else if (type == UUID.class) {
+                converted = UUID.fromString(value);
+            } else {
+                throw invalid(encode(), "sort field " + sortBy + " does not support cursor pagination");
+            }
+            return (T) converted;
+        } catch (RuntimeException e) {
+            if (e instanceof EntityValidationException validationException) {
+                throw validationException;
+            }
+            throw invalid(encode(), "cursor value does not match sort field " + sortBy);
+        }
+    }
+
+    private static EntityValidationException invalid(String token, String reason) {
+        return EntityValidationException.invalidField("Cursor", "after", token, reason);
+    }
+}
@@ -0,0 +1,53 @@
+package com.library.catalog.framework.pagination;
+
+import com.library.catalog.repository.KeysetSpecification;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+
+    private final int size;
+
+    private final boolean first;
+
+    private final boolean hasNext;
+
+    private final String nextCursor;
+
+    /**
+     * Runs a seek query: rows strictly after the {@code after} cursor in {@code (sortBy, id)} order,
+     * fetching one extra row to detect whether a next slice exists. No count query is issued.
+     */
+    public static <T> KeysetSlice<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                           String sortBy, Sort.Direction direction, String after, int size,
+                                           Function<T, Long> idExtractor) {
+        KeysetCursor cursor = KeysetCursor.decode(after, sortBy, direction);
+        // Native null ordering, the seek predicate in KeysetSpecification.after relies on it
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        List<T> rows = repository.findBy(specification.and(KeysetSpecification.after(cursor)),
+                query -> query.sortBy(sort).limit(size + 1).all());
+        return of(rows, size, cursor == null, sortBy, direction, idExtractor);
+    }
+
+    /**
+     * Wraps up to {@code size + 1} ordered rows into a slice, trimming the look-ahead row.
+     */
+    public static <T> KeysetSlice<T> of(List<T> rows, int size, boolean first, String sortBy,
+                                        Sort.Direction direction, Function<T, Long> idExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        return new KeysetSlice<>(content, size, first, hasNext,
+                KeysetCursor.next(content, hasNext, sortBy, direction, idExtractor));
+    }
+}
@@ -0,0 +1,50 @@
+package com.library.catalog.framework.search;
+
+import com.library.catalog.aop.EntityValidationException;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Facets that can be counted next to book search results. The request names match the search filter
+ * each facet value can be fed back into.
+ */
+public enum BookFacet {
+
+    CATEGORY("category"),
+    LANGUAGE("language"),
+    PUBLICATION_YEAR("publicationYear"),
+    PUBLISHER("publisher");
+
+    private final String requestName;
+
+    BookFacet(String requestName) {
+        this.requestName = requestName;
+    }
+
+    public String getRequestName() {
+        return requestName;
+    }
+
+    // Parses a comma separated list such as "category,language"
+    public static Set<BookFacet> parse(String facets) {
+        Set<BookFacet> result = EnumSet.noneOf(BookFacet.class);
+        if (!StringUtils.hasText(facets)) {
+            return result;
+        }
+        for (String name : facets.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            result.add(Arrays.stream(values())
+                    .filter(facet -> facet.requestName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> EntityValidationException.invalidField("Book", "facets", trimmed,
+                            "supported facets are category, language, publicationYear, publisher")));
+        }
+        return result;
+    }
+}
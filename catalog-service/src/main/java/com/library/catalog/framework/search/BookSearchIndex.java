@@ -0,0 +1,830 @@
+package com.library.catalog.framework.search;
+
+import com.library.catalog.framework.pagination.KeysetCursor;
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.AuthorRepository;
+import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAuthor;
+import com.library.catalog.repository.BookAuthorRepository;
+import com.library.catalog.repository.BookCategory;
+import com.library.catalog.repository.BookCategoryRepository;
+import com.library.catalog.repository.BookRepository;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.CategoryRepository;
+import com.library.catalog.repository.Publisher;
+import com.library.catalog.repository.PublisherRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over active books and their author, category and publisher names.
+ * Each instance applies its own committed writes directly and broadcasts them; the other instances re-read
+ * the changed rows when the broadcast arrives. Writes that arrive while a rebuild is loading are buffered and
+ * replayed onto the rebuilt maps, so a rebuild never discards a concurrent change.
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private static final String TOKEN_SEPARATOR = "[^\\p{L}\\p{N}]+";
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookAuthorRepository bookAuthorRepository;
+    private final BookCategoryRepository bookCategoryRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String changeTopic;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Timer queryTimer;
+    private final Timer rebuildTimer;
+
+    @Value("${catalog.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes rebuilds so only one of them owns the pending write buffer
+    private final Object rebuildMonitor = new Object();
+
+    // Book documents by internal book id
+    private Map<Long, BookDocument> documents = new HashMap<>();
+    // Title term -> book ids
+    private NavigableMap<String, Set<Long>> titleTerms = new TreeMap<>();
+    // Name term -> author/category/publisher ids
+    private NavigableMap<String, Set<Long>> authorTerms = new TreeMap<>();
+    private NavigableMap<String, Set<Long>> categoryTerms = new TreeMap<>();
+    private NavigableMap<String, Set<Long>> publisherTerms = new TreeMap<>();
+    // Active reference names, kept so renames can drop the old terms
+    private Map<Long, String> authorNames = new HashMap<>();
+    private Map<Long, String> categoryNames = new HashMap<>();
+    private Map<Long, String> publisherNames = new HashMap<>();
+    // Reference id -> book ids
+    private Map<Long, Set<Long>> booksByAuthor = new HashMap<>();
+    private Map<Long, Set<Long>> booksByCategory = new HashMap<>();
+    private Map<Long, Set<Long>> booksByPublisher = new HashMap<>();
+
+    private volatile boolean ready;
+
+    // Non-null while a rebuild is loading; guarded by the write lock
+    private List<Runnable> pendingWrites;
+
+    // Rows whose suggestion entries a mutation changed, reported with the next change event; guarded by the write lock
+    private final Set<Long> touchedBooks = new HashSet<>();
+    private final Set<Long> touchedAuthors = new HashSet<>();
+    private final Set<Long> touchedCategories = new HashSet<>();
+
+    public BookSearchIndex(BookRepository bookRepository,
+                           BookAuthorRepository bookAuthorRepository,
+                           BookCategoryRepository bookCategoryRepository,
+                           AuthorRepository authorRepository,
+                           CategoryRepository categoryRepository,
+                           PublisherRepository publisherRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           KafkaTemplate<String, Object> kafkaTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${catalog.search.index.topic:catalog-search-index-changes}") String changeTopic) {
+        this.bookRepository = bookRepository;
+        this.bookAuthorRepository = bookAuthorRepository;
+        this.bookCategoryRepository = bookCategoryRepository;
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+        this.publisherRepository = publisherRepository;
+        this.eventPublisher = eventPublisher;
+        this.kafkaTemplate = kafkaTemplate;
+        this.changeTopic = changeTopic;
+        this.queryTimer = Timer.builder("catalog.search.index.query")
+                .description("Latency of book searches resolved from the in-memory index")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("catalog.search.index.rebuild")
+                .description("Duration of full search index rebuilds")
+                .register(meterRegistry);
+        Gauge.builder("catalog.search.index.documents", this, index -> index.documentCount())
+                .description("Number of books held in the search index")
+                .register(meterRegistry);
+        Gauge.builder("catalog.search.index.terms", this, index -> index.termCount())
+                .description("Number of distinct terms held in the search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Book search index is disabled, searches will run against the database");
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build book search index, searches will run against the database", e);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public IndexStats rebuild() {
+        synchronized (rebuildMonitor) {
+            // The primary, so a rebuild started right after a write cannot miss it on a lagging replica
+            return rebuildTimer.record(() -> ReplicaRoutingDataSource.onPrimary(this::rebuildNow));
+        }
+    }
+
+    private IndexStats rebuildNow() {
+        long start = System.currentTimeMillis();
+        // Writes committed from here on are buffered; anything committed earlier is visible to the load below
+        lock.writeLock().lock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BookSearchIndex fresh = new BookSearchIndex();
+        try {
+            loadReferenceData(fresh);
+            loadBooks(fresh);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                // The previous maps stay in service, so apply what was held back instead of losing it
+                if (ready) {
+                    pendingWrites.forEach(Runnable::run);
+                }
+                pendingWrites = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            documents = fresh.documents;
+            titleTerms = fresh.titleTerms;
+            authorTerms = fresh.authorTerms;
+            categoryTerms = fresh.categoryTerms;
+            publisherTerms = fresh.publisherTerms;
+            authorNames = fresh.authorNames;
+            categoryNames = fresh.categoryNames;
+            publisherNames = fresh.publisherNames;
+            booksByAuthor = fresh.booksByAuthor;
+            booksByCategory = fresh.booksByCategory;
+            booksByPublisher = fresh.booksByPublisher;
+            // Mutations are idempotent puts and removes, replaying one the load already saw is harmless
+            replayed = pendingWrites.size();
+            pendingWrites.forEach(Runnable::run);
+            pendingWrites = null;
+            clearTouched();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        eventPublisher.publishEvent(BookSearchIndexChangedEvent.forRebuild());
+        IndexStats stats = getStats();
+        log.info("Book search index built with {} books and {} terms in {} ms, {} concurrent writes replayed",
+                stats.documents(), stats.terms(), System.currentTimeMillis() - start, replayed);
+        return stats;
+    }
+
+    public IndexStats getStats() {
+        lock.readLock().lock();
+        try {
+            return new IndexStats(isReady(), documents.size(), termCount(), authorNames.size(),
+                    categoryNames.size(), publisherNames.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves the filters of {@code BookSpecification.matchesSearch} to an ordered list of book ids.
+     * Text filters match when every query token is a prefix of a token in the indexed field.
+     * When {@code after} is given only books ordered strictly after the cursor are returned.
+     * Returns empty when the index is not ready or the sort cannot be served in memory, in which
+     * case the caller should fall back to the database query.
+     */
+    public Optional<List<Long>> search(String title, String isbn, String publisherName, String authorName,
+                                       String categoryName, Short publicationYear, String language, Sort sort,
+                                       KeysetCursor after) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        Comparator<BookDocument> comparator = comparatorFor(sort);
+        if (comparator == null) {
+            return Optional.empty();
+        }
+        BookDocument cursorDocument = after != null ? BookDocument.forCursor(after) : null;
+        return Optional.of(queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return matching(title, isbn, publisherName, authorName, categoryName, publicationYear, language)
+                        .filter(doc -> cursorDocument == null || comparator.compare(doc, cursorDocument) > 0)
+                        .sorted(comparator)
+                        .map(BookDocument::id)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    /**
+     * Counts the books matching the same filters as {@link #search} by each requested facet, in a single pass
+     * over the matches. Values are ordered by descending count and cut to {@code limit} per facet.
+     * Returns empty when the index is not ready.
+     */
+    public Optional<Map<BookFacet, List<FacetCount>>> facets(String title, String isbn, String publisherName,
+                                                              String authorName, String categoryName,
+                                                              Short publicationYear, String language,
+                                                              Set<BookFacet> facets, int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(queryTimer.record(() -> {
+            Map<String, Long> byCategory = facets.contains(BookFacet.CATEGORY) ? new HashMap<>() : null;
+            Map<String, Long> byLanguage = facets.contains(BookFacet.LANGUAGE) ? new HashMap<>() : null;
+            Map<String, Long> byYear = facets.contains(BookFacet.PUBLICATION_YEAR) ? new HashMap<>() : null;
+            Map<String, Long> byPublisher = facets.contains(BookFacet.PUBLISHER) ? new HashMap<>() : null;
+            lock.readLock().lock();
+            try {
+                matching(title, isbn, publisherName, authorName, categoryName, publicationYear, language).forEach(doc -> {
+                    if (byCategory != null) {
+                        doc.categoryIds().forEach(categoryId -> increment(byCategory, categoryNames.get(categoryId)));
+                    }
+                    if (byLanguage != null) {
+                        increment(byLanguage, doc.language());
+                    }
+                    if (byYear != null && doc.publicationYear() != null) {
+                        increment(byYear, doc.publicationYear().toString());
+                    }
+                    if (byPublisher != null) {
+                        increment(byPublisher, publisherNames.get(doc.publisherId()));
+                    }
+                });
+            } finally {
+                lock.readLock().unlock();
+            }
+            Map<BookFacet, List<FacetCount>> result = new EnumMap<>(BookFacet.class);
+            if (byCategory != null) {
+                result.put(BookFacet.CATEGORY, FacetCount.top(byCategory, limit));
+            }
+            if (byLanguage != null) {
+                result.put(BookFacet.LANGUAGE, FacetCount.top(byLanguage, limit));
+            }
+            if (byYear != null) {
+                result.put(BookFacet.PUBLICATION_YEAR, FacetCount.top(byYear, limit));
+            }
+            if (byPublisher != null) {
+                result.put(BookFacet.PUBLISHER, FacetCount.top(byPublisher, limit));
+            }
+            return result;
+        }));
+    }
+
+    /**
+     * Copies out what the typeahead index is built from: every title, and the active author and category
+     * names with the number of books that reference them.
+     */
+    public SuggestionSource suggestionSource() {
+        lock.readLock().lock();
+        try {
+            return suggestionSource(documents.keySet(), authorNames.keySet(), categoryNames.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Same as {@link #suggestionSource()} restricted to the given rows. Rows that are missing from the result
+     * no longer have a suggestion.
+     */
+    public SuggestionSource suggestionSource(Collection<Long> bookIds, Collection<Long> authorIds,
+                                             Collection<Long> categoryIds) {
+        lock.readLock().lock();
+        try {
+            List<TitleEntry> titles = bookIds.stream()
+                    .map(documents::get)
+                    .filter(Objects::nonNull)
+                    .filter(doc -> publisherNames.containsKey(doc.publisherId()))
+                    .map(doc -> new TitleEntry(doc.id(), doc.publicId(), doc.title()))
+                    .toList();
+            return new SuggestionSource(titles, nameEntries(authorIds, authorNames, booksByAuthor),
+                    nameEntries(categoryIds, categoryNames, booksByCategory));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void indexBook(Book book, Collection<Long> authorIds, Collection<Long> categoryIds) {
+        BookDocument document = BookDocument.of(book, authorIds, categoryIds);
+        afterCommit(() -> {
+            write(() -> putDocument(document));
+            broadcast(BookSearchIndexChangeMessage.Type.BOOK, document.id());
+        });
+    }
+
+    public void removeBook(Long bookId) {
+        afterCommit(() -> {
+            write(() -> removeDocument(bookId));
+            broadcast(BookSearchIndexChangeMessage.Type.BOOK, bookId);
+        });
+    }
+
+    public void indexAuthor(Author author) {
+        Long id = author.getId();
+        String name = author.getName();
+        afterCommit(() -> {
+            write(() -> putName(id, name, authorNames, authorTerms));
+            broadcast(BookSearchIndexChangeMessage.Type.AUTHOR, id);
+        });
+    }
+
+    public void removeAuthor(Long authorId) {
+        afterCommit(() -> {
+            write(() -> removeName(authorId, authorNames, authorTerms));
+            broadcast(BookSearchIndexChangeMessage.Type.AUTHOR, authorId);
+        });
+    }
+
+    public void indexCategory(Category category) {
+        Long id = category.getId();
+        String name = category.getName();
+        afterCommit(() -> {
+            write(() -> putName(id, name, categoryNames, categoryTerms));
+            broadcast(BookSearchIndexChangeMessage.Type.CATEGORY, id);
+        });
+    }
+
+    public void removeCategory(Long categoryId) {
+        afterCommit(() -> {
+            write(() -> removeName(categoryId, categoryNames, categoryTerms));
+            broadcast(BookSearchIndexChangeMessage.Type.CATEGORY, categoryId);
+        });
+    }
+
+    public void indexPublisher(Publisher publisher) {
+        Long id = publisher.getId();
+        String name = publisher.getName();
+        afterCommit(() -> {
+            write(() -> putName(id, name, publisherNames, publisherTerms));
+            broadcast(BookSearchIndexChangeMessage.Type.PUBLISHER, id);
+        });
+    }
+
+    public void removePublisher(Long publisherId) {
+        afterCommit(() -> {
+            write(() -> removeName(publisherId, publisherNames, publisherTerms));
+            broadcast(BookSearchIndexChangeMessage.Type.PUBLISHER, publisherId);
+        });
+    }
+
+    /**
+     * Applies a change committed on another instance. The row is re-read instead of trusting the message, so a
+     * late or repeated message still leaves the index matching the database.
+     */
+    public void onRemoteChange(BookSearchIndexChangeMessage message) {
+        if (!enabled || instanceId.equals(message.getOriginInstanceId())) {
+            return;
+        }
+        // The change is committed on the primary but may not have reached the replica yet
+        ReplicaRoutingDataSource.runOnPrimary(() -> applyRemoteChange(message));
+    }
+
+    private void applyRemoteChange(BookSearchIndexChangeMessage message) {
+        Long id = message.getId();
+        switch (message.getType()) {
+            case BOOK -> {
+                Optional<Book> book = bookRepository.findById(id).filter(found -> !found.isDeleted());
+                if (book.isEmpty()) {
+                    write(() -> removeDocument(id));
+                    return;
+                }
+                List<Long> authorIds = bookAuthorRepository.findByBookIdIn(List.of(id)).stream()
+                        .map(BookAuthor::getAuthorId).toList();
+                List<Long> categoryIds = bookCategoryRepository.findByBookIdIn(List.of(id)).stream()
+                        .map(BookCategory::getCategoryId).toList();
+                BookDocument document = BookDocument.of(book.get(), authorIds, categoryIds);
+                write(() -> putDocument(document));
+            }
+            case AUTHOR -> {
+                Optional<String> name = authorRepository.findById(id)
+                        .filter(author -> !author.isDeleted()).map(Author::getName);
+                write(() -> name.ifPresentOrElse(value -> putName(id, value, authorNames, authorTerms),
+                        () -> removeName(id, authorNames, authorTerms)));
+            }
+            case CATEGORY -> {
+                Optional<String> name = categoryRepository.findById(id)
+                        .filter(category -> !category.isDeleted()).map(Category::getName);
+                write(() -> name.ifPresentOrElse(value -> putName(id, value, categoryNames, categoryTerms),
+                        () -> removeName(id, categoryNames, categoryTerms)));
+            }
+            case PUBLISHER -> {
+                Optional<String> name = publisherRepository.findById(id)
+                        .filter(publisher -> !publisher.isDeleted()).map(Publisher::getName);
+                write(() -> name.ifPresentOrElse(value -> putName(id, value, publisherNames, publisherTerms),
+                        () -> removeName(id, publisherNames, publisherTerms)));
+            }
+        }
+    }
+
+    // Callers must hold the read lock while consuming the stream
+    private Stream<BookDocument> matching(String title, String isbn, String publisherName, String authorName,
+                                          String categoryName, Short publicationYear, String language) {
+        Set<Long> candidates = null;
+        if (StringUtils.hasText(title)) {
+            candidates = intersect(candidates, matchTerms(titleTerms, title));
+        }
+        if (StringUtils.hasText(authorName)) {
+            candidates = intersect(candidates, booksFor(matchTerms(authorTerms, authorName), booksByAuthor));
+        }
+        if (StringUtils.hasText(categoryName)) {
+            candidates = intersect(candidates, booksFor(matchTerms(categoryTerms, categoryName), booksByCategory));
+        }
+        if (StringUtils.hasText(publisherName)) {
+            candidates = intersect(candidates, booksFor(matchTerms(publisherTerms, publisherName), booksByPublisher));
+        }
+        Collection<BookDocument> scope = candidates == null
+                ? documents.values()
+                : candidates.stream().map(documents::get).filter(Objects::nonNull).toList();
+
+        return scope.stream()
+                .filter(doc -> publisherNames.containsKey(doc.publisherId()))
+                .filter(doc -> isbn == null || isbn.equals(doc.isbn()))
+                .filter(doc -> publicationYear == null || publicationYear.equals(doc.publicationYear()))
+                .filter(doc -> language == null || language.equalsIgnoreCase(doc.language()));
+    }
+
+    private static List<NameEntry> nameEntries(Collection<Long> ids, Map<Long, String> names,
+                                               Map<Long, Set<Long>> booksByReference) {
+        return ids.stream()
+                .filter(names::containsKey)
+                .map(id -> new NameEntry(id, names.get(id), booksByReference.getOrDefault(id, Set.of()).size()))
+                .toList();
+    }
+
+    private static void increment(Map<String, Long> values, String value) {
+        if (value != null) {
+            values.merge(value, 1L, Long::sum);
+        }
+    }
+
+    // Used only to stage a rebuild off to the side before swapping it in
+    private BookSearchIndex() {
+        this.bookRepository = null;
+        this.bookAuthorRepository = null;
+        this.bookCategoryRepository = null;
+        this.authorRepository = null;
+        this.categoryRepository = null;
+        this.publisherRepository = null;
+        this.eventPublisher = null;
+        this.kafkaTemplate = null;
+        this.changeTopic = null;
+        this.queryTimer = null;
+        this.rebuildTimer = null;
+    }
+
+    private void loadReferenceData(BookSearchIndex target) {
+        authorRepository.findAll().stream()
+                .filter(author -> !author.isDeleted())
+                .forEach(author -> target.putName(author.getId(), author.getName(), target.authorNames, target.authorTerms));
+        categoryRepository.findAll().stream()
+                .filter(category -> !category.isDeleted())
+                .forEach(category -> target.putName(category.getId(), category.getName(), target.categoryNames, target.categoryTerms));
+        publisherRepository.findAll().stream()
+                .filter(publisher -> !publisher.isDeleted())
+                .forEach(publisher -> target.putName(publisher.getId(), publisher.getName(), target.publisherNames, target.publisherTerms));
+    }
+
+    private void loadBooks(BookSearchIndex target) {
+        int pageNumber = 0;
+        Page<Book> page;
+        do {
+            page = bookRepository.findByDeletedAtIsNull(PageRequest.of(pageNumber++, BUILD_BATCH_SIZE, Sort.by("id")));
+            List<Long> bookIds = page.getContent().stream().map(Book::getId).toList();
+            if (bookIds.isEmpty()) {
+                break;
+            }
+            Map<Long, List<Long>> authorIds = bookAuthorRepository.findByBookIdIn(bookIds).stream()
+                    .collect(Collectors.groupingBy(BookAuthor::getBookId,
+                            Collectors.mapping(BookAuthor::getAuthorId, Collectors.toList())));
+            Map<Long, List<Long>> categoryIds = bookCategoryRepository.findByBookIdIn(bookIds).stream()
+                    .collect(Collectors.groupingBy(BookCategory::getBookId,
+                            Collectors.mapping(BookCategory::getCategoryId, Collectors.toList())));
+            for (Book book : page.getContent()) {
+                target.putDocument(BookDocument.of(book,
+                        authorIds.getOrDefault(book.getId(), List.of()),
+                        categoryIds.getOrDefault(book.getId(), List.of())));
+            }
+        } while (page.hasNext());
+    }
+
+    private void putDocument(BookDocument document) {
+        removeDocument(document.id());
+        documents.put(document.id(), document);
+        touchDocument(document);
+        for (String token : tokenize(document.title())) {
+            titleTerms.computeIfAbsent(token, key -> new HashSet<>()).add(document.id());
+        }
+        document.authorIds().forEach(id -> booksByAuthor.computeIfAbsent(id, key -> new HashSet<>()).add(document.id()));
+        document.categoryIds().forEach(id -> booksByCategory.computeIfAbsent(id, key -> new HashSet<>()).add(document.id()));
+        booksByPublisher.computeIfAbsent(document.publisherId(), key -> new HashSet<>()).add(document.id());
+    }
+
+    private void removeDocument(Long bookId) {
+        BookDocument existing = documents.remove(bookId);
+        if (existing == null) {
+            return;
+        }
+        touchDocument(existing);
+        for (String token : tokenize(existing.title())) {
+            removePosting(titleTerms, token, bookId);
+        }
+        existing.authorIds().forEach(id -> removePosting(booksByAuthor, id, bookId));
+        existing.categoryIds().forEach(id -> removePosting(booksByCategory, id, bookId));
+        removePosting(booksByPublisher, existing.publisherId(), bookId);
+    }
+
+    private void putName(Long id, String name, Map<Long, String> names, NavigableMap<String, Set<Long>> terms) {
+        removeName(id, names, terms);
+        names.put(id, name);
+        touchName(id, names);
+        for (String token : tokenize(name)) {
+            terms.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeName(Long id, Map<Long, String> names, NavigableMap<String, Set<Long>> terms) {
+        String existing = names.remove(id);
+        if (existing == null) {
+            return;
+        }
+        touchName(id, names);
+        for (String token : tokenize(existing)) {
+            removePosting(terms, token, id);
+        }
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> postings, K key, Long id) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static Set<Long> matchTerms(NavigableMap<String, Set<Long>> terms, String query) {
+        Set<Long> result = null;
+        for (String token : tokenize(query)) {
+            Set<Long> tokenMatches = new HashSet<>();
+            terms.subMap(token, true, token + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(tokenMatches::addAll);
+            result = intersect(result, tokenMatches);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : Set.of();
+    }
+
+    private static Set<Long> booksFor(Set<Long> referenceIds, Map<Long, Set<Long>> booksByReference) {
+        Set<Long> bookIds = new HashSet<>();
+        for (Long referenceId : referenceIds) {
+            bookIds.addAll(booksByReference.getOrDefault(referenceId, Set.of()));
+        }
+        return bookIds;
+    }
+
+    private static Set<Long> intersect(Set<Long> current, Set<Long> next) {
+        if (current == null) {
+            return new HashSet<>(next);
+        }
+        current.retainAll(next);
+        return current;
+    }
+
+    /**
+     * Splits text into the lowercase words the index matches by prefix. {@code BookSpecification} applies the
+     * same rule when the index is not ready.
+     */
+    public static List<String> tokenize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split(TOKEN_SEPARATOR)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Comparator<BookDocument> comparatorFor(Sort sort) {
+        Comparator<BookDocument> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<BookDocument> next = switch (order.getProperty()) {
+                case "title" -> nullsLast(BookDocument::title, String.CASE_INSENSITIVE_ORDER);
+                case "isbn" -> nullsLast(BookDocument::isbn, Comparator.<String>naturalOrder());
+                case "publicationYear" -> nullsLast(BookDocument::publicationYear, Comparator.<Short>naturalOrder());
+                case "language" -> nullsLast(BookDocument::language, String.CASE_INSENSITIVE_ORDER);
+                case "numberOfPages" -> nullsLast(BookDocument::numberOfPages, Comparator.<Integer>naturalOrder());
+                case "createdAt" -> nullsLast(BookDocument::createdAt, Comparator.<LocalDateTime>naturalOrder());
+                case "updatedAt" -> nullsLast(BookDocument::updatedAt, Comparator.<LocalDateTime>naturalOrder());
+                case "id" -> Comparator.comparing(BookDocument::id);
+                default -> null;
+            };
+            if (next == null) {
+                return null;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<BookDocument> byId = Comparator.comparing(BookDocument::id);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private static <T> Comparator<BookDocument> nullsLast(Function<BookDocument, T> key, Comparator<T> comparator) {
+        return Comparator.comparing(key, Comparator.nullsLast(comparator));
+    }
+
+    private int documentCount() {
+        return documents.size();
+    }
+
+    private int termCount() {
+        return titleTerms.size() + authorTerms.size() + categoryTerms.size() + publisherTerms.size();
+    }
+
+    private void write(Runnable mutation) {
+        if (!enabled) {
+            return;
+        }
+        BookSearchIndexChangedEvent event;
+        lock.writeLock().lock();
+        try {
+            if (pendingWrites != null) {
+                // A rebuild is loading and may already have read past this change, replay it after the swap
+                pendingWrites.add(mutation);
+                return;
+            }
+            if (!ready) {
+                return;
+            }
+            mutation.run();
+            event = BookSearchIndexChangedEvent.changed(touchedBooks, touchedAuthors, touchedCategories);
+            clearTouched();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        eventPublisher.publishEvent(event);
+    }
+
+    // A rebuild reports everything at once, so staging copies and replays before the swap track nothing
+    private void touchDocument(BookDocument document) {
+        if (!ready) {
+            return;
+        }
+        touchedBooks.add(document.id());
+        touchedAuthors.addAll(document.authorIds());
+        touchedCategories.addAll(document.categoryIds());
+    }
+
+    // Titles are only suggested while their publisher is active, so a publisher change touches its books
+    private void touchName(Long id, Map<Long, String> names) {
+        if (!ready) {
+            return;
+        }
+        if (names == authorNames) {
+            touchedAuthors.add(id);
+        } else if (names == categoryNames) {
+            touchedCategories.add(id);
+        } else if (names == publisherNames) {
+            touchedBooks.addAll(booksByPublisher.getOrDefault(id, Set.of()));
+        }
+    }
+
+    private void clearTouched() {
+        touchedBooks.clear();
+        touchedAuthors.clear();
+        touchedCategories.clear();
+    }
+
+    private void broadcast(BookSearchIndexChangeMessage.Type type, Long id) {
+        try {
+            BookSearchIndexChangeMessage message = new BookSearchIndexChangeMessage(type, id, instanceId);
+            kafkaTemplate.send(changeTopic, type + ":" + id, message).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("Failed to broadcast search index change for {} {}: {}", type, id, ex.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            // Other replicas catch up on their next rebuild; the local index is already updated
+            log.error("Error broadcasting search index change for {} {}: {}", type, id, e.getMessage(), e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record IndexStats(boolean ready, int documents, int terms, int authors, int categories, int publishers) {
+    }
+
+    public record TitleEntry(Long bookId, UUID publicId, String title) {
+    }
+
+    public record NameEntry(Long id, String name, int books) {
+    }
+
+    public record SuggestionSource(List<TitleEntry> titles, List<NameEntry> authors, List<NameEntry> categories) {
+    }
+
+    public record FacetCount(String value, long count) {
+
+        public static List<FacetCount> top(Map<String, Long> counts, int limit) {
+            return counts.entrySet().stream()
+                    .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    private record BookDocument(Long id, UUID publicId, String title, String isbn, Short publicationYear, String language,
+                                Integer numberOfPages, Long publisherId, LocalDateTime createdAt,
+                                LocalDateTime updatedAt, Set<Long> authorIds, Set<Long> categoryIds) {
+
+        static BookDocument of(Book book, Collection<Long> authorIds, Collection<Long> categoryIds) {
+            return new BookDocument(book.getId(), book.getPublicId(), book.getTitle(), book.getIsbn(), book.getPublicationYear(),
+                    book.getLanguage(), book.getNumberOfPages(), book.getPublisherId(), book.getCreatedAt(),
+                    book.getUpdatedAt(), Set.copyOf(authorIds), Set.copyOf(categoryIds));
+        }
+
+        static BookDocument forCursor(KeysetCursor cursor) {
+            String sortBy = cursor.getSortBy();
+            return new BookDocument(cursor.getId(), null,
+                    "title".equals(sortBy) ? cursor.valueAs(String.class) : null,
+                    "isbn".equals(sortBy) ? cursor.valueAs(String.class) : null,
+                    "publicationYear".equals(sortBy) ? cursor.valueAs(Short.class) : null,
+                    null, null, null,
+                    "createdAt".equals(sortBy) ? cursor.valueAs(LocalDateTime.class) : null,
+                    null, Set.of(), Set.of());
+        }
+    }
+}
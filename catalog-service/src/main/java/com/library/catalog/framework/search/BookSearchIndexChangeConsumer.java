@@ -0,0 +1,24 @@
+package com.library.catalog.framework.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookSearchIndexChangeConsumer {
+
+    private final BookSearchIndex bookSearchIndex;
+
+    // A group per running instance so that every replica applies every change
+    @KafkaListener(
+            topics = "${catalog.search.index.topic:catalog-search-index-changes}",
+            groupId = "catalog-search-index-${random.uuid}",
+            properties = {"spring.json.value.default.type=com.library.catalog.framework.search.BookSearchIndexChangeMessage"})
+    public void handleChange(BookSearchIndexChangeMessage message) {
+        log.debug("Received search index change for {} {}", message.getType(), message.getId());
+        bookSearchIndex.onRemoteChange(message);
+    }
+}
@@ -0,0 +1,26 @@
+package com.library.catalog.framework.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Broadcast to every catalog-service replica after a committed write changed an indexed book or reference row.
+ * Receivers re-read the row by its internal id instead of trusting the payload, so late or repeated messages
+ * converge on the committed state.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSearchIndexChangeMessage {
+
+    public enum Type {
+        BOOK, AUTHOR, CATEGORY, PUBLISHER
+    }
+
+    private Type type;
+
+    private Long id;
+
+    private String originInstanceId;
+}
@@ -0,0 +1,20 @@
+package com.library.catalog.framework.search;
+
+import java.util.Set;
+
+/**
+ * Published after the search index was rebuilt or changed by a committed catalog write. A change names the
+ * books, authors and categories whose typeahead entries may differ; a rebuild can have changed anything.
+ */
+public record BookSearchIndexChangedEvent(boolean fullRebuild, Set<Long> bookIds, Set<Long> authorIds,
+                                          Set<Long> categoryIds) {
+
+    public static BookSearchIndexChangedEvent forRebuild() {
+        return new BookSearchIndexChangedEvent(true, Set.of(), Set.of(), Set.of());
+    }
+
+    public static BookSearchIndexChangedEvent changed(Set<Long> bookIds, Set<Long> authorIds, Set<Long> categoryIds) {
+        return new BookSearchIndexChangedEvent(false, Set.copyOf(bookIds), Set.copyOf(authorIds),
+                Set.copyOf(categoryIds));
+    }
+}
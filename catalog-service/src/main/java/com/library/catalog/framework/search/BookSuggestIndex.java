@@ -0,0 +1,397 @@
+package com.library.catalog.framework.search;
+
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.repository.BookAvailabilityRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over book titles, author names and category names.
+ * <p>
+ * Every word start of a text is stored as a key in a sorted map, so "potter" completes "Harry Potter".
+ * The best completions of every one to three character prefix are kept in a list per prefix; longer
+ * prefixes rank their whole key range with a bounded heap. Search index changes are applied to the affected
+ * suggestions only, collected over a short delay; a full build runs only after the search index was rebuilt.
+ */
+@Slf4j
+@Component
+public class BookSuggestIndex {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 3;
+    private static final int MAX_KEYS_PER_TEXT = 8;
+    // Beyond this many changed rows (e.g. a bulk import) one full build is cheaper than the single updates
+    private static final int MAX_INCREMENTAL_CHANGES = 5000;
+    private static final String TOKEN_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private static final Comparator<Suggestion> BY_RANK = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text, String.CASE_INSENSITIVE_ORDER);
+
+    public enum Type {
+        TITLE, AUTHOR, CATEGORY
+    }
+
+    public record Suggestion(Type type, String text, UUID bookId, long weight) {
+    }
+
+    // Titles are keyed by internal book id, names by author or category id
+    private record SuggestionKey(Type type, Long id) {
+    }
+
+    private final BookSearchIndex searchIndex;
+    private final BookAvailabilityRepository bookAvailabilityRepository;
+    private final Timer queryTimer;
+    private final ScheduledExecutorService updateExecutor;
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final Set<Long> pendingBooks = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingAuthors = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingCategories = ConcurrentHashMap.newKeySet();
+
+    @Value("${catalog.search.suggest.rebuild-delay:PT2S}")
+    private Duration rebuildDelay;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<SuggestionKey, Suggestion> suggestions = new HashMap<>();
+    // Word start key -> suggestions having it
+    private NavigableMap<String, Set<SuggestionKey>> keys = new TreeMap<>();
+    // Short prefix -> its best suggestions, best first
+    private Map<String, List<SuggestionKey>> shortPrefixes = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public BookSuggestIndex(BookSearchIndex searchIndex,
+                            BookAvailabilityRepository bookAvailabilityRepository,
+                            MeterRegistry meterRegistry) {
+        this.searchIndex = searchIndex;
+        this.bookAvailabilityRepository = bookAvailabilityRepository;
+        this.queryTimer = Timer.builder("catalog.search.suggest.query")
+                .description("Latency of typeahead lookups")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("catalog.search.suggest.keys", this, index -> index.keyCount())
+                .description("Number of prefix keys held in the typeahead index")
+                .register(meterRegistry);
+        this.updateExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "book-suggest-update");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Bursts of catalog writes collapse into a single update of the rows they touched
+    @EventListener
+    public void onSearchIndexChanged(BookSearchIndexChangedEvent event) {
+        if (event.fullRebuild()) {
+            rebuildRequested.set(true);
+        } else {
+            pendingBooks.addAll(event.bookIds());
+            pendingAuthors.addAll(event.authorIds());
+            pendingCategories.addAll(event.categoryIds());
+        }
+        if (updateScheduled.compareAndSet(false, true)) {
+            updateExecutor.schedule(this::runPendingUpdate, rebuildDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns up to {@code limit} completions for the prefix, best first. Empty when the index is not built.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String query = normalize(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return queryTimer.record(() -> {
+            int size = Math.min(limit, MAX_LIMIT);
+            lock.readLock().lock();
+            try {
+                List<SuggestionKey> ranked = query.length() <= PRECOMPUTED_PREFIX_LENGTH
+                        ? shortPrefixes.getOrDefault(query, List.of())
+                        : rank(keys, suggestions, query, size);
+                return ranked.stream().limit(size).map(suggestions::get).toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        BookSearchIndex.SuggestionSource source = searchIndex.suggestionSource();
+        Map<Long, Long> copiesByBook = totalCopies(ReplicaRoutingDataSource.onPrimary(bookAvailabilityRepository::findTotalCopies));
+
+        // Step 1: Collect the suggestions and index every word start of each text
+        Map<SuggestionKey, Suggestion> builtSuggestions = collect(source, copiesByBook);
+        NavigableMap<String, Set<SuggestionKey>> builtKeys = new TreeMap<>();
+        builtSuggestions.forEach((key, suggestion) -> addKeys(builtKeys, key, suggestion));
+
+        // Step 2: Rank the short prefixes, whose ranges are too wide to rank per request
+        Set<String> prefixes = new TreeSet<>();
+        for (String key : builtKeys.keySet()) {
+            prefixes.addAll(shortPrefixesOf(key));
+        }
+        Map<String, List<SuggestionKey>> builtPrefixes = new HashMap<>();
+        for (String prefix : prefixes) {
+            builtPrefixes.put(prefix, rank(builtKeys, builtSuggestions, prefix, MAX_LIMIT));
+        }
+
+        lock.writeLock().lock();
+        try {
+            suggestions = builtSuggestions;
+            keys = builtKeys;
+            shortPrefixes = builtPrefixes;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Book suggest index built with {} suggestions and {} keys in {} ms",
+                builtSuggestions.size(), builtKeys.size(), System.currentTimeMillis() - start);
+    }
+
+    private void runPendingUpdate() {
+        updateScheduled.set(false);
+        if (!searchIndex.isReady()) {
+            return;
+        }
+        // Drained before reading the search index, so a change that lands meanwhile is applied by the next run
+        boolean rebuild = rebuildRequested.getAndSet(false) || !ready;
+        Set<Long> books = drain(pendingBooks);
+        Set<Long> authors = drain(pendingAuthors);
+        Set<Long> categories = drain(pendingCategories);
+        try {
+            if (rebuild || books.size() + authors.size() + categories.size() > MAX_INCREMENTAL_CHANGES) {
+                rebuild();
+            } else if (!books.isEmpty() || !authors.isEmpty() || !categories.isEmpty()) {
+                apply(books, authors, categories);
+            }
+        } catch (Exception e) {
+            // The drained rows are lost, so the next change rebuilds everything
+            rebuildRequested.set(true);
+            log.error("Failed to update book suggest index, serving the previous state", e);
+        }
+    }
+
+    private void apply(Set<Long> bookIds, Set<Long> authorIds, Set<Long> categoryIds) {
+        BookSearchIndex.SuggestionSource source = searchIndex.suggestionSource(bookIds, authorIds, categoryIds);
+        Map<Long, Long> copiesByBook = bookIds.isEmpty()
+                ? Map.of()
+                : totalCopies(ReplicaRoutingDataSource.onPrimary(() -> bookAvailabilityRepository.findTotalCopiesByBookIdIn(bookIds)));
+        Map<SuggestionKey, Suggestion> current = collect(source, copiesByBook);
+
+        // Rows missing from the source lost their suggestion
+        Set<SuggestionKey> affected = new HashSet<>(current.keySet());
+        bookIds.forEach(id -> affected.add(new SuggestionKey(Type.TITLE, id)));
+        authorIds.forEach(id -> affected.add(new SuggestionKey(Type.AUTHOR, id)));
+        categoryIds.forEach(id -> affected.add(new SuggestionKey(Type.CATEGORY, id)));
+
+        int changed = 0;
+        lock.writeLock().lock();
+        try {
+            for (SuggestionKey key : affected) {
+                Suggestion previous = suggestions.get(key);
+                Suggestion next = current.get(key);
+                if (Objects.equals(previous, next)) {
+                    continue;
+                }
+                Set<String> prefixes = new HashSet<>();
+                if (previous != null) {
+                    suggestions.remove(key);
+                    removeKeys(keys, key, previous);
+                    keys(previous.text()).forEach(text -> prefixes.addAll(shortPrefixesOf(text)));
+                }
+                if (next != null) {
+                    suggestions.put(key, next);
+                    addKeys(keys, key, next);
+                    keys(next.text()).forEach(text -> prefixes.addAll(shortPrefixesOf(text)));
+                }
+                prefixes.forEach(prefix -> refreshPrefix(prefix, key));
+                changed++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Book suggest index updated {} of {} affected suggestions", changed, affected.size());
+    }
+
+    // Called with the write lock held, after the suggestion itself was updated
+    private void refreshPrefix(String prefix, SuggestionKey changed) {
+        List<SuggestionKey> top = shortPrefixes.getOrDefault(prefix, List.of());
+        Suggestion suggestion = suggestions.get(changed);
+        boolean matches = suggestion != null
+                && keys(suggestion.text()).stream().anyMatch(key -> key.startsWith(prefix));
+        boolean listed = top.contains(changed);
+        if (!matches && !listed) {
+            return;
+        }
+        Comparator<SuggestionKey> byRank = byRank(suggestions);
+        List<SuggestionKey> updated = new ArrayList<>(top);
+        updated.remove(changed);
+        if (matches) {
+            updated.add(changed);
+        }
+        updated.sort(byRank);
+        if (listed && top.size() >= MAX_LIMIT && (!matches || updated.get(updated.size() - 1).equals(changed))) {
+            // Leaving a full list, or falling to its last place, can let a suggestion cut off earlier outrank it
+            updated = rank(keys, suggestions, prefix, MAX_LIMIT);
+        } else if (updated.size() > MAX_LIMIT) {
+            updated = updated.subList(0, MAX_LIMIT);
+        }
+        if (updated.isEmpty()) {
+            shortPrefixes.remove(prefix);
+        } else {
+            shortPrefixes.put(prefix, List.copyOf(updated));
+        }
+    }
+
+    private static List<SuggestionKey> rank(NavigableMap<String, Set<SuggestionKey>> keys,
+                                            Map<SuggestionKey, Suggestion> suggestions, String prefix, int limit) {
+        Comparator<SuggestionKey> byRank = byRank(suggestions);
+        Set<SuggestionKey> seen = new HashSet<>();
+        PriorityQueue<SuggestionKey> best = new PriorityQueue<>(byRank.reversed());
+        for (Map.Entry<String, Set<SuggestionKey>> entry : keys.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            for (SuggestionKey key : entry.getValue()) {
+                if (!seen.add(key)) {
+                    continue;
+                }
+                best.add(key);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        List<SuggestionKey> result = new ArrayList<>(best);
+        result.sort(byRank);
+        return result;
+    }
+
+    private static Comparator<SuggestionKey> byRank(Map<SuggestionKey, Suggestion> suggestions) {
+        return Comparator.comparing(suggestions::get, BY_RANK);
+    }
+
+    // Titles are weighted by copies held, names by the number of books referencing them
+    private static Map<SuggestionKey, Suggestion> collect(BookSearchIndex.SuggestionSource source,
+                                                          Map<Long, Long> copiesByBook) {
+        Map<SuggestionKey, Suggestion> result = new HashMap<>();
+        for (BookSearchIndex.TitleEntry title : source.titles()) {
+            result.put(new SuggestionKey(Type.TITLE, title.bookId()), new Suggestion(Type.TITLE, title.title(),
+                    title.publicId(), copiesByBook.getOrDefault(title.bookId(), 0L)));
+        }
+        source.authors().forEach(author -> result.put(new SuggestionKey(Type.AUTHOR, author.id()),
+                new Suggestion(Type.AUTHOR, author.name(), null, author.books())));
+        source.categories().forEach(category -> result.put(new SuggestionKey(Type.CATEGORY, category.id()),
+                new Suggestion(Type.CATEGORY, category.name(), null, category.books())));
+        return result;
+    }
+
+    private static Map<Long, Long> totalCopies(List<Object[]> rows) {
+        Map<Long, Long> copiesByBook = new HashMap<>();
+        for (Object[] row : rows) {
+            copiesByBook.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return copiesByBook;
+    }
+
+    private static void addKeys(NavigableMap<String, Set<SuggestionKey>> keys, SuggestionKey key,
+                                Suggestion suggestion) {
+        for (String text : keys(suggestion.text())) {
+            keys.computeIfAbsent(text, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    private static void removeKeys(NavigableMap<String, Set<SuggestionKey>> keys, SuggestionKey key,
+                                   Suggestion suggestion) {
+        for (String text : keys(suggestion.text())) {
+            Set<SuggestionKey> refs = keys.get(text);
+            if (refs != null && refs.remove(key) && refs.isEmpty()) {
+                keys.remove(text);
+            }
+        }
+    }
+
+    private static List<String> shortPrefixesOf(String key) {
+        List<String> prefixes = new ArrayList<>(PRECOMPUTED_PREFIX_LENGTH);
+        for (int length = 1; length <= Math.min(PRECOMPUTED_PREFIX_LENGTH, key.length()); length++) {
+            prefixes.add(key.substring(0, length));
+        }
+        return prefixes;
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> iterator = pending.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private int keyCount() {
+        return keys.size();
+    }
+
+    private static List<String> keys(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        while (start < normalized.length() && keys.size() < MAX_KEYS_PER_TEXT) {
+            keys.add(normalized.substring(start));
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll(TOKEN_SEPARATOR, " ").strip();
+    }
+}
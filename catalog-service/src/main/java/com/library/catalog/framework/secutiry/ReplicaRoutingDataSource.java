@@ -0,0 +1,147 @@
+package com.library.catalog.framework.secutiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * The replica's replication lag is polled in the background; while it exceeds the configured maximum,
+ * or the replica cannot be reached, read-only transactions fall back to the primary. Reads that fill a shared
+ * cache or index run through {@link #onPrimary}, so a lagging replica cannot put rows back that a committed
+ * write has just evicted.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Counter fallbacks;
+    private final ScheduledExecutorService lagChecker;
+
+    // Set while the current thread must read from the primary regardless of the transaction's read-only flag
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, String lagQuery,
+                                    Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only transactions served by the primary because the replica was lagging or unreachable")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", this, dataSource -> dataSource.lagSeconds)
+                .description("Last measured replication lag of the replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, dataSource -> dataSource.replicaUsable ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        lagChecker.shutdownNow();
+    }
+
+    // Only consulted when a connection is actually fetched, which the lazy proxy in front of this
+    // data source defers until the transaction's read-only flag is bound
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_ONLY.get() != null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        if (replicaUsable) {
+            return Route.REPLICA;
+        }
+        fallbacks.increment();
+        return Route.PRIMARY;
+    }
+
+    /**
+     * Runs the action with every connection it fetches taken from the primary. Connections are fetched at the
+     * first statement, so this also covers a transaction begun before the action that has not run a query yet.
+     * Without a replica configured this is a plain call.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void checkLag() {
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.NaN;
+            usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica is within {} of the primary, routing read-only transactions to it", maxLag);
+            } else {
+                log.warn("Replica lag is {} seconds (max {}), routing read-only transactions to the primary", lagSeconds, maxLag);
+            }
+        }
+        replicaUsable = usable;
+    }
+}
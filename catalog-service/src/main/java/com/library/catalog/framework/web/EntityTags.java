@@ -0,0 +1,64 @@
+package com.library.catalog.framework.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Strong entity tags for single-resource reads. The tag comes from a cheap version lookup, so a matching
+ * {@code If-None-Match} is answered with 304 before the representation is loaded. A {@link Versioned}
+ * representation is then served with the tag it was loaded at.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String fromTimestamp(LocalDateTime updatedAt) {
+        return Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant(ZoneOffset.UTC)));
+    }
+
+    public static String fromContent(byte[] content) {
+        return DigestUtils.md5DigestAsHex(content);
+    }
+
+    /**
+     * Returns 304 when the request already holds {@code version}, otherwise loads the body and tags it.
+     * Without a version (e.g. unknown id) the body loader runs untagged and reports its own errors.
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, Optional<String> version, Supplier<T> body) {
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+        String eTag = version.get();
+        // Clients may store the response but must revalidate before every reuse
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * Returns 304 when the request already holds {@code version}, otherwise loads the representation and tags it
+     * with the version it carries, which may be newer than the one looked up first.
+     */
+    public static <T> ResponseEntity<T> conditionalVersioned(WebRequest request, Optional<String> version,
+                                                             Supplier<Versioned<T>> representation) {
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (version.isPresent() && request.checkNotModified(version.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version.get()).cacheControl(cacheControl).build();
+        }
+        Versioned<T> loaded = representation.get();
+        return ResponseEntity.ok().eTag(loaded.version()).cacheControl(cacheControl).body(loaded.body());
+    }
+}
@@ -0,0 +1,8 @@
+package com.library.catalog.framework.web;
+
+/**
+ * A representation together with the entity tag of the data it was loaded from, so the two are cached and served
+ * as a pair.
+ */
+public record Versioned<T>(T body, String version) {
+}
@@ -3,17 +3,20 @@ package com.library.catalog.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AuthorRepository extends JpaRepository<Author, Long> {
+public interface AuthorRepository extends JpaRepository<Author, Long>, JpaSpecificationExecutor<Author> {
 
     // Find all non-deleted authors with pagination
     Page<Author> findByDeletedAtIsNull(Pageable pageable);
@@ -24,6 +27,14 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
     // Find author by public_id excluding deleted ones
     Optional<Author> findByPublicIdAndDeletedAtIsNull(UUID publicId);
 
+    // Last modification time, used as the entity tag without loading the author
+    @Query("SELECT COALESCE(a.updatedAt, a.createdAt) FROM Author a WHERE a.publicId = :publicId AND a.deletedAt IS NULL")
+    Optional<LocalDateTime> findVersionByPublicId(@Param("publicId") UUID publicId);
+
+    // Resolve the internal id of an active author for id-keyed link table lookups
+    @Query("SELECT a.id FROM Author a WHERE a.publicId = :publicId AND a.deletedAt IS NULL")
+    Optional<Long> findAuthorIdByPublicId(@Param("publicId") UUID publicId);
+
     // Check if author exists by public_id excluding deleted ones
     boolean existsByPublicIdAndDeletedAtIsNull(UUID publicId);
 
@@ -33,6 +44,10 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
     // Find author by name (case-insensitive) excluding deleted ones
     Optional<Author> findByNameIgnoreCaseAndDeletedAtIsNull(String name);
 
+    // Batched name lookup for bulk imports; names must already be lower-cased
+    @Query("SELECT a FROM Author a WHERE LOWER(a.name) IN :names AND a.deletedAt IS NULL")
+    List<Author> findByLowerCaseNamesAndDeletedAtIsNull(@Param("names") Collection<String> names);
+
     // Custom soft delete method using @Modifying query
     @Modifying
     @Query("UPDATE Author a SET a.deletedAt = :deletedAt, a.updatedAt = :updatedAt, a.updatedBy = :updatedBy WHERE a.publicId = :publicId AND a.deletedAt IS NULL")
@@ -5,11 +5,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serializable;
@@ -22,7 +27,7 @@ import java.util.Objects;
 @Table(name = "book_authors")
 @IdClass(BookAuthor.BookAuthorId.class)
 @EntityListeners(AuditingEntityListener.class)
-public class BookAuthor {
+public class BookAuthor implements Persistable<BookAuthor.BookAuthorId> {
 
     @Id
     @Column(name = "book_id", nullable = false)
@@ -32,6 +37,13 @@ public class BookAuthor {
     @Column(name = "author_id", nullable = false)
     private Long authorId;
 
+    // Assigned keys make Spring Data treat every instance as existing, which turns save() into
+    // a SELECT + INSERT; tracking newness explicitly keeps saveAll() a pure batched insert
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newAssociation = true;
+
     // Constructor with required fields
     public BookAuthor(Long bookId, Long authorId) {
         this.bookId = bookId;
@@ -59,6 +71,22 @@ public class BookAuthor {
         }
     }
 
+    @Override
+    public BookAuthorId getId() {
+        return new BookAuthorId(bookId, authorId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newAssociation;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newAssociation = false;
+    }
+
     // Business methods
     public boolean hasValidBookId() {
         return bookId != null && bookId > 0;
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -92,6 +93,11 @@ public interface BookAuthorRepository extends JpaRepository<BookAuthor, BookAuth
     @Query("DELETE FROM BookAuthor ba WHERE ba.bookId = :bookId AND ba.authorId = :authorId")
     void deleteByBookIdAndAuthorId(@Param("bookId") Long bookId, @Param("authorId") Long authorId);
 
+    // Hard delete a subset of a book's associations in one statement
+    @Modifying
+    @Query("DELETE FROM BookAuthor ba WHERE ba.bookId = :bookId AND ba.authorId IN :authorIds")
+    void deleteByBookIdAndAuthorIdIn(@Param("bookId") Long bookId, @Param("authorIds") Collection<Long> authorIds);
+
     // Validate multiple author IDs exist and are active (checking author.deleted_at)
     @Query("SELECT COUNT(a) FROM Author a WHERE a.id IN :authorIds AND a.deletedAt IS NULL")
     long countActiveAuthorsByIds(@Param("authorIds") List<Long> authorIds);
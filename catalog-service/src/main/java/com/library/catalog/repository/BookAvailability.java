@@ -0,0 +1,60 @@
+package com.library.catalog.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-book copy counters. Rows are written only by {@link BookAvailabilityRepository}, in the same
+ * transaction as the copy changes, so the entity is read-only.
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "book_availability")
+public class BookAvailability {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "total_copies", nullable = false)
+    private int totalCopies;
+
+    @Column(name = "available_copies", nullable = false)
+    private int availableCopies;
+
+    @Column(name = "borrowed_copies", nullable = false)
+    private int borrowedCopies;
+
+    @Column(name = "reserved_copies", nullable = false)
+    private int reservedCopies;
+
+    @Column(name = "borrowable_copies", nullable = false)
+    private int borrowableCopies;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Overall book status as shown in search results and book detail
+    public String getStatus() {
+        if (availableCopies > 0) {
+            return "available";
+        }
+        if (borrowedCopies > 0) {
+            return "borrowed";
+        }
+        return "unavailable";
+    }
+
+    public static String statusOf(BookAvailability availability) {
+        return availability != null ? availability.getStatus() : "unavailable";
+    }
+}
@@ -0,0 +1,100 @@
+package com.library.catalog.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookAvailabilityRepository extends JpaRepository<BookAvailability, Long> {
+
+    /**
+     * Recomputes the counters of the given books from their copies. Must run in the transaction that changed the copies.
+     */
+    default void refresh(Collection<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return;
+        }
+        List<Long> sortedIds = bookIds.stream().distinct().sorted().toList();
+        // Wait for concurrent refreshes and transitions of the same books, so the upsert counts every committed change
+        lockRows(sortedIds);
+        upsertCounts(sortedIds);
+    }
+
+    /**
+     * Applies a single copy status change as deltas. Cheaper than {@link #refresh} for the hot checkout path,
+     * and takes the same row lock, so the two never overwrite each other.
+     */
+    default void applyTransition(Long bookId, BookCopyStatus from, BookCopyStatus to, BookCopyCondition condition) {
+        boolean borrowableCondition = condition != null && condition.canBeBorrowed();
+        applyDeltas(bookId,
+                countDelta(BookCopyStatus.AVAILABLE, from, to),
+                countDelta(BookCopyStatus.BORROWED, from, to),
+                countDelta(BookCopyStatus.RESERVED, from, to),
+                borrowableCondition ? countDelta(BookCopyStatus.AVAILABLE, from, to) : 0);
+    }
+
+    private static int countDelta(BookCopyStatus counted, BookCopyStatus from, BookCopyStatus to) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+
+    @Query("SELECT a.updatedAt FROM BookAvailability a, Book b WHERE a.bookId = b.id AND b.publicId = :publicId AND b.deletedAt IS NULL")
+    Optional<LocalDateTime> findVersionByBookPublicId(@Param("publicId") UUID publicId);
+
+    // Rows of [book_id, total_copies]; used to rank typeahead title suggestions
+    @Query("SELECT a.bookId, a.totalCopies FROM BookAvailability a")
+    List<Object[]> findTotalCopies();
+
+    @Query("SELECT a.bookId, a.totalCopies FROM BookAvailability a WHERE a.bookId IN :bookIds")
+    List<Object[]> findTotalCopiesByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query(value = "SELECT book_id FROM book_availability WHERE book_id IN (:bookIds) ORDER BY book_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockRows(@Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE book_availability SET
+            available_copies  = available_copies + :available,
+            borrowed_copies   = borrowed_copies + :borrowed,
+            reserved_copies   = reserved_copies + :reserved,
+            borrowable_copies = borrowable_copies + :borrowable,
+            updated_at        = CURRENT_TIMESTAMP
+        WHERE book_id = :bookId
+        """, nativeQuery = true)
+    int applyDeltas(@Param("bookId") Long bookId,
+                    @Param("available") int available,
+                    @Param("borrowed") int borrowed,
+                    @Param("reserved") int reserved,
+                    @Param("borrowable") int borrowable);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO book_availability (book_id, total_copies, available_copies, borrowed_copies, reserved_copies, borrowable_copies, updated_at)
+        SELECT b.id,
+               COUNT(c.id),
+               COUNT(c.id) FILTER (WHERE c.status = 'AVAILABLE'),
+               COUNT(c.id) FILTER (WHERE c.status = 'BORROWED'),
+               COUNT(c.id) FILTER (WHERE c.status = 'RESERVED'),
+               COUNT(c.id) FILTER (WHERE c.status = 'AVAILABLE' AND c.condition <> 'DAMAGED'),
+               CURRENT_TIMESTAMP
+        FROM books b
+          LEFT JOIN book_copies c ON c.book_id = b.id AND c.deleted_at IS NULL
+        WHERE b.id IN (:bookIds)
+        GROUP BY b.id
+        ON CONFLICT (book_id) DO UPDATE SET
+            total_copies      = EXCLUDED.total_copies,
+            available_copies  = EXCLUDED.available_copies,
+            borrowed_copies   = EXCLUDED.borrowed_copies,
+            reserved_copies   = EXCLUDED.reserved_copies,
+            borrowable_copies = EXCLUDED.borrowable_copies,
+            updated_at        = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int upsertCounts(@Param("bookIds") Collection<Long> bookIds);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -92,6 +93,11 @@ public interface BookCategoryRepository extends JpaRepository<BookCategory, Book
     @Query("DELETE FROM BookCategory bc WHERE bc.bookId = :bookId AND bc.categoryId = :categoryId")
     void deleteByBookIdAndCategoryId(@Param("bookId") Long bookId, @Param("categoryId") Long categoryId);
 
+    // Hard delete a subset of a book's associations in one statement
+    @Modifying
+    @Query("DELETE FROM BookCategory bc WHERE bc.bookId = :bookId AND bc.categoryId IN :categoryIds")
+    void deleteByBookIdAndCategoryIdIn(@Param("bookId") Long bookId, @Param("categoryIds") Collection<Long> categoryIds);
+
     // Validate multiple category IDs exist and are active (checking category.deleted_at)
     @Query("SELECT COUNT(c) FROM Category c WHERE c.id IN :categoryIds AND c.deletedAt IS NULL")
     long countActiveCategoriesByIds(@Param("categoryIds") List<Long> categoryIds);
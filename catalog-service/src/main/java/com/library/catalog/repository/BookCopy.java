@@ -8,7 +8,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,7 +27,8 @@ import java.util.UUID;
 public class BookCopy extends BaseSoftDeleteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_copies_id_seq")
+    @SequenceGenerator(name = "book_copies_id_seq", sequenceName = "book_copies_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "public_id", nullable = false, unique = true, updatable = false)
@@ -48,6 +51,14 @@ public class BookCopy extends BaseSoftDeleteEntity {
     @Column(length = 50)
     private String location;
 
+    @BookCopyBarcode
+    @Column(nullable = false, unique = true, updatable = false, length = 32)
+    private String barcode;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     void generatePublicId() {
         if (this.publicId == null) {
@@ -0,0 +1,17 @@
+package com.library.catalog.repository;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a barcode derived from the copy id when a copy is inserted without one.
+ */
+@ValueGenerationType(generatedBy = BookCopyBarcodeGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BookCopyBarcode {
+}
@@ -0,0 +1,33 @@
+package com.library.catalog.repository;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+/**
+ * Runs after the sequence id has been assigned and before the INSERT is queued, so the barcode is part of
+ * the batched insert rather than a follow-up UPDATE.
+ */
+public class BookCopyBarcodeGenerator implements BeforeExecutionGenerator {
+
+    public static final String PREFIX = "GB";
+
+    public static String forCopyId(Long copyId) {
+        return PREFIX + String.format("%06d", copyId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        if (currentValue != null) {
+            return currentValue;
+        }
+        return forCopyId(((BookCopy) owner).getId());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
@@ -8,6 +8,21 @@ public enum BookCopyCondition {
     POOR,
     DAMAGED;
 
+    // Maps the condition names used by the book APIs and import feeds (excellent, good, fair, poor, damaged)
+    public static BookCopyCondition fromRequestValue(String condition) {
+        if (condition == null) {
+            return GOOD;
+        }
+        return switch (condition.toLowerCase()) {
+            case "excellent" -> NEW;
+            case "good" -> GOOD;
+            case "fair" -> FAIR;
+            case "poor" -> POOR;
+            case "damaged" -> DAMAGED;
+            default -> GOOD; // Default to good condition
+        };
+    }
+
     public boolean canBeBorrowed() {
         return this != DAMAGED;
     }
@@ -3,10 +3,13 @@ package com.library.catalog.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +19,13 @@ public interface BookCopyRepository extends JpaRepository<BookCopy, Long> {
 
     Optional<BookCopy> findByPublicIdAndDeletedAtIsNull(UUID publicId);
 
+    // Served by the unique barcode index; book and availability are joined on their primary keys
+    @Query("SELECT new com.library.catalog.repository.BookCopyScan(bc, b, ba) FROM BookCopy bc " +
+           "JOIN Book b ON b.id = bc.bookId " +
+           "LEFT JOIN BookAvailability ba ON ba.bookId = b.id " +
+           "WHERE bc.barcode IN :barcodes AND bc.deletedAt IS NULL AND b.deletedAt IS NULL")
+    List<BookCopyScan> findScansByBarcodes(@Param("barcodes") Collection<String> barcodes);
+
     boolean existsByPublicIdAndDeletedAtIsNull(UUID publicId);
 
     List<BookCopy> findByBookIdAndDeletedAtIsNull(Long bookId);
@@ -98,11 +108,6 @@ public interface BookCopyRepository extends JpaRepository<BookCopy, Long> {
 
     boolean existsByBookIdAndDeletedAtIsNull(Long bookId);
 
-    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(bc.copyNumber, 2) AS int)), 0) + 1 " +
-           "FROM BookCopy bc WHERE bc.bookId = :bookId " +
-           "AND bc.copyNumber LIKE 'C%' AND bc.deletedAt IS NULL")
-    Integer findNextCopyNumber(@Param("bookId") Long bookId);
-
     @Query("SELECT bc FROM BookCopy bc " +
            "JOIN Book b ON bc.bookId = b.id " +
            "WHERE b.publicId = :bookPublicId " +
@@ -116,4 +121,24 @@ public interface BookCopyRepository extends JpaRepository<BookCopy, Long> {
            "AND bc.deletedAt IS NULL " +
            "AND b.deletedAt IS NULL")
     long countByBookPublicId(@Param("bookPublicId") UUID bookPublicId);
-}
\ No newline at end of file
+
+    /**
+     * Moves a copy from {@code expected} to {@code target} in one statement. Returns 0 when the copy is
+     * missing, deleted or no longer in the expected status, so the check and the write cannot interleave.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookCopy bc SET bc.status = :target, bc.version = bc.version + 1, " +
+           "bc.updatedAt = :updatedAt, bc.updatedBy = :updatedBy " +
+           "WHERE bc.id = :copyId AND bc.status = :expected AND bc.deletedAt IS NULL")
+    int transitionStatus(@Param("copyId") Long copyId,
+                         @Param("expected") BookCopyStatus expected,
+                         @Param("target") BookCopyStatus target,
+                         @Param("updatedAt") LocalDateTime updatedAt,
+                         @Param("updatedBy") String updatedBy);
+
+    // Copies already locked by a concurrent claim are skipped rather than waited on
+    @Query(value = "SELECT * FROM book_copies WHERE book_id = :bookId " +
+                   "AND status = 'AVAILABLE' AND condition <> 'DAMAGED' AND deleted_at IS NULL " +
+                   "ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<BookCopy> lockNextBorrowableCopy(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,7 @@
+package com.library.catalog.repository;
+
+/**
+ * A scanned copy together with its book and the book's availability, read in one query.
+ */
+public record BookCopyScan(BookCopy copy, Book book, BookAvailability availability) {
+}
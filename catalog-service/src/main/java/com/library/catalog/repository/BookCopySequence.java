@@ -0,0 +1,49 @@
+package com.library.catalog.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Setter
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "book_copy_sequences")
+public class BookCopySequence {
+
+    // Same shape as the seed query and V5 migration match on
+    private static final Pattern GENERATED_FORMAT = Pattern.compile("C([0-9]{1,9})");
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "next_number", nullable = false)
+    private Integer nextNumber;
+
+    public static String formatCopyNumber(int number) {
+        return String.format("C%03d", number);
+    }
+
+    /**
+     * Returns the highest number among the copy numbers in the generated {@code C<n>} form, or 0 when none has it.
+     */
+    public static int highestGeneratedNumber(Collection<String> copyNumbers) {
+        int highest = 0;
+        for (String copyNumber : copyNumbers) {
+            Matcher matcher = GENERATED_FORMAT.matcher(copyNumber);
+            if (matcher.matches()) {
+                highest = Math.max(highest, Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return highest;
+    }
+}
@@ -0,0 +1,62 @@
+package com.library.catalog.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+@Repository
+public interface BookCopySequenceRepository extends JpaRepository<BookCopySequence, Long> {
+
+    /**
+     * Reserves {@code count} consecutive copy numbers for a book and returns them formatted ("C001", ...).
+     * The counter is first moved past {@code highestTaken}, the highest "C" number the caller is assigning
+     * explicitly, so neither these nor later reservations can hand out a number that is already in use.
+     * The counter row stays locked until commit, so concurrent callers always receive disjoint ranges.
+     * Nothing is written or locked when no number is needed and the counter is already past {@code highestTaken},
+     * or has not been created yet (the seed will start after the numbers then in use).
+     */
+    default List<String> reserveCopyNumbers(Long bookId, int count, int highestTaken) {
+        if (count <= 0 && (highestTaken <= 0
+                || findNextNumber(bookId).map(next -> next > highestTaken).orElse(true))) {
+            return List.of();
+        }
+        Optional<Integer> first = reserve(bookId, count, highestTaken);
+        if (first.isEmpty()) {
+            // First allocation for this book: start after any numbers it already has, then reserve
+            seed(List.of(bookId));
+            first = reserve(bookId, count, highestTaken);
+        }
+        int start = first.orElseThrow();
+        return IntStream.range(start, start + count)
+                .mapToObj(BookCopySequence::formatCopyNumber)
+                .toList();
+    }
+
+    // Unlocked read; the counter only grows, so a value already past a number stays past it
+    @Query("SELECT s.nextNumber FROM BookCopySequence s WHERE s.bookId = :bookId")
+    Optional<Integer> findNextNumber(@Param("bookId") Long bookId);
+
+    @Query(value = "UPDATE book_copy_sequences SET next_number = GREATEST(next_number, :highestTaken + 1) + :count " +
+                   "WHERE book_id = :bookId RETURNING next_number - :count", nativeQuery = true)
+    Optional<Integer> reserve(@Param("bookId") Long bookId, @Param("count") int count,
+                              @Param("highestTaken") int highestTaken);
+
+    /**
+     * Creates missing counters so that they continue after the highest "C" number each book already has.
+     * Books without copies start at 1.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO book_copy_sequences (book_id, next_number) " +
+                   "SELECT b.id, COALESCE(MAX(CAST(SUBSTRING(c.copy_number FROM 2) AS INTEGER)), 0) + 1 " +
+                   "FROM books b LEFT JOIN book_copies c ON c.book_id = b.id AND c.copy_number ~ '^C[0-9]{1,9}$' " +
+                   "WHERE b.id IN (:bookIds) GROUP BY b.id " +
+                   "ON CONFLICT (book_id) DO NOTHING", nativeQuery = true)
+    int seed(@Param("bookIds") Collection<Long> bookIds);
+}
@@ -27,4 +27,14 @@ public enum BookCopyStatus {
     public boolean isUnavailable() {
         return this == MAINTENANCE || this == LOST;
     }
+
+    // Circulation moves handled by the copy status API; maintenance and loss go through the copy update
+    public boolean canTransitionTo(BookCopyStatus target) {
+        return switch (this) {
+            case AVAILABLE -> target == BORROWED || target == RESERVED;
+            case BORROWED -> target == AVAILABLE;
+            case RESERVED -> target == AVAILABLE || target == BORROWED;
+            default -> false;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.library.catalog.repository;
+
+import com.library.catalog.framework.search.BookFacet;
+import com.library.catalog.framework.search.BookSearchIndex.FacetCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Database fallback for facet counts while the search index is unavailable: one grouped count per facet
+ * over the books matching the search specification.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookFacetQueries {
+
+    private final EntityManager entityManager;
+
+    public List<FacetCount> countBy(BookFacet facet, Specification<Book> filter, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> book = query.from(Book.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filterPredicate = filter.toPredicate(book, query, criteriaBuilder);
+        if (filterPredicate != null) {
+            predicates.add(filterPredicate);
+        }
+        Expression<?> value = switch (facet) {
+            case LANGUAGE -> book.get("language");
+            case PUBLICATION_YEAR -> book.get("publicationYear");
+            case PUBLISHER -> {
+                Root<Publisher> publisher = query.from(Publisher.class);
+                predicates.add(criteriaBuilder.equal(publisher.get("id"), book.get("publisherId")));
+                yield publisher.get("name");
+            }
+            case CATEGORY -> {
+                Root<BookCategory> bookCategory = query.from(BookCategory.class);
+                Root<Category> category = query.from(Category.class);
+                predicates.add(criteriaBuilder.equal(bookCategory.get("bookId"), book.get("id")));
+                predicates.add(criteriaBuilder.equal(category.get("id"), bookCategory.get("categoryId")));
+                predicates.add(criteriaBuilder.isNull(category.get("deletedAt")));
+                yield category.get("name");
+            }
+        };
+
+        Expression<Long> count = criteriaBuilder.count(book);
+        query.multiselect(value, count)
+                .where(predicates.toArray(Predicate[]::new))
+                .groupBy(value)
+                .orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(value));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .filter(tuple -> tuple.get(0) != null)
+                .map(tuple -> new FacetCount(String.valueOf(tuple.get(0)), tuple.get(1, Long.class)))
+                .toList();
+    }
+}
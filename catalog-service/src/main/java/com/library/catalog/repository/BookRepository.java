@@ -1,75 +1,103 @@
 package com.library.catalog.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
 
     Optional<Book> findByPublicIdAndDeletedAtIsNull(UUID publicId);
 
+    List<Book> findByPublicIdInAndDeletedAtIsNull(Collection<UUID> publicIds);
+
+    @Query("SELECT b.id FROM Book b WHERE b.publicId = :publicId AND b.deletedAt IS NULL")
+    Optional<Long> findBookIdByPublicId(@Param("publicId") UUID publicId);
+
+    /**
+     * Concatenates the change markers of everything the book detail is built from: the book, its publisher, its
+     * copies (counting soft-deleted ones, so removals change it too), its availability counters and its linked
+     * authors and categories. Each part is an index lookup by book id, so a conditional GET that misses the
+     * detail cache is answered without loading the graph.
+     */
+    @Query(value = """
+        SELECT concat_ws('|',
+                 b.updated_at,
+                 p.updated_at,
+                 (SELECT concat(COUNT(*), '/', MAX(c.updated_at)) FROM book_copies c WHERE c.book_id = b.id),
+                 (SELECT ba.updated_at FROM book_availability ba WHERE ba.book_id = b.id),
+                 (SELECT string_agg(concat(a.id, '@', a.updated_at), ',' ORDER BY a.id)
+                  FROM book_authors bau JOIN authors a ON a.id = bau.author_id WHERE bau.book_id = b.id),
+                 (SELECT string_agg(concat(ca.id, '@', ca.updated_at), ',' ORDER BY ca.id)
+                  FROM book_categories bca JOIN categories ca ON ca.id = bca.category_id WHERE bca.book_id = b.id))
+        FROM books b
+          LEFT JOIN publishers p ON p.id = b.publisher_id
+        WHERE b.public_id = :publicId AND b.deleted_at IS NULL
+        """, nativeQuery = true)
+    Optional<String> findDetailVersionByPublicId(@Param("publicId") UUID publicId);
+
     Optional<Book> findByIsbnAndDeletedAtIsNull(String isbn);
 
     boolean existsByPublicIdAndDeletedAtIsNull(UUID publicId);
 
     boolean existsByIsbn(String isbn);
 
+    // Batched ISBN check for bulk imports, including soft-deleted books since isbn is unique
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
     boolean existsByIsbnAndDeletedAtIsNullAndPublicIdNot(String isbn, UUID publicId);
 
     Page<Book> findByDeletedAtIsNull(Pageable pageable);
 
+    // Server-side cursor over the whole catalog; Postgres only honours the fetch size inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b WHERE b.deletedAt IS NULL ORDER BY b.id")
+    Stream<Book> streamAllActive();
+
     List<Book> findByPublisherIdAndDeletedAtIsNull(Long publisherId);
 
-    @Query("SELECT b FROM Book b " +
-           "JOIN BookAuthor ba ON b.id = ba.bookId " +
-           "JOIN Author a ON ba.authorId = a.id " +
-           "WHERE a.publicId = :authorPublicId " +
-           "AND b.deletedAt IS NULL " +
-           "AND a.deletedAt IS NULL")
-    List<Book> findByAuthorPublicId(@Param("authorPublicId") UUID authorPublicId);
-
-    @Query("SELECT b FROM Book b " +
-           "JOIN BookCategory bc ON b.id = bc.bookId " +
-           "JOIN Category c ON bc.categoryId = c.id " +
-           "WHERE c.publicId = :categoryPublicId " +
-           "AND b.deletedAt IS NULL " +
-           "AND c.deletedAt IS NULL")
-    List<Book> findByCategoryPublicId(@Param("categoryPublicId") UUID categoryPublicId);
+    // Seeks through idx_book_authors_author_book in book id order; pass size + 1 to detect a next page
+    @Query("""
+        SELECT b
+        FROM BookAuthor ba
+          JOIN Book b ON b.id = ba.bookId
+        WHERE ba.authorId = :authorId
+          AND ba.bookId > :afterBookId
+          AND b.deletedAt IS NULL
+        ORDER BY ba.bookId
+        """)
+    List<Book> findByAuthorIdAfter(@Param("authorId") Long authorId,
+                                   @Param("afterBookId") Long afterBookId,
+                                   Limit limit);
 
     @Query("""
-        SELECT DISTINCT b
-        FROM Book b
-          LEFT JOIN BookAuthor ba   ON b.id = ba.bookId
-          LEFT JOIN Author a        ON ba.authorId = a.id
-          LEFT JOIN BookCategory bc ON b.id = bc.bookId
-          LEFT JOIN Category c      ON bc.categoryId = c.id
-          LEFT JOIN Publisher p     ON b.publisherId = p.id
-        WHERE b.deletedAt IS NULL
-          AND (:title            IS NULL OR LOWER(CAST(b.title AS string))           LIKE LOWER(CONCAT('%', CAST(:title AS string), '%')))
-          AND (:isbn             IS NULL OR b.isbn                 = :isbn)
-          AND (:publisherName    IS NULL OR LOWER(CAST(p.name AS string))           LIKE LOWER(CONCAT('%', CAST(:publisherName AS string), '%')))
-          AND (:authorName       IS NULL OR LOWER(CAST(a.name AS string))           LIKE LOWER(CONCAT('%', CAST(:authorName AS string), '%')))
-          AND (:categoryName     IS NULL OR LOWER(CAST(c.name AS string))           LIKE LOWER(CONCAT('%', CAST(:categoryName AS string), '%')))
-          AND (:publicationYear  IS NULL OR b.publicationYear       = :publicationYear)
-          AND (:language         IS NULL OR LOWER(CAST(b.language AS string))        = LOWER(CAST(:language AS string)))
-          AND p.deletedAt IS NULL
-          AND (:authorName   IS NULL OR a.deletedAt IS NULL)
-          AND (:categoryName IS NULL OR c.deletedAt IS NULL)
+        SELECT b
+        FROM BookCategory bc
+          JOIN Book b ON b.id = bc.bookId
+        WHERE bc.categoryId = :categoryId
+          AND bc.bookId > :afterBookId
+          AND b.deletedAt IS NULL
+        ORDER BY bc.bookId
         """)
-    Page<Book> searchBooks(@Param("title") String title,
-                          @Param("isbn") String isbn,
-                          @Param("publisherName") String publisherName,
-                          @Param("authorName") String authorName,
-                          @Param("categoryName") String categoryName,
-                          @Param("publicationYear") Short publicationYear,
-                          @Param("language") String language,
-                          Pageable pageable);
+    List<Book> findByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                     @Param("afterBookId") Long afterBookId,
+                                     Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.library.catalog.repository;
+
+import com.library.catalog.framework.search.BookSearchIndex;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Specification class for Book searches, used when the search index is not ready. Text filters follow the
+ * index's rule: every word of the query must start a word of the field. Author, category and publisher filters
+ * are resolved through subqueries instead of joins, so the result needs no DISTINCT and can be combined with
+ * keyset predicates.
+ */
+public class BookSpecification {
+
+    // Folded to spaces so they separate words as in the index; other separators are rare in catalog names
+    private static final String WORD_SEPARATORS = "-_.,:;!?'\"()[]{}/\\&+*#@";
+
+    /**
+     * Creates a specification to filter books whose title has a word starting with each word of the query.
+     */
+    public static Specification<Book> titleMatches(String title) {
+        return (root, query, criteriaBuilder) -> StringUtils.hasText(title)
+                ? matchesWords(criteriaBuilder, root.get("title"), title)
+                : criteriaBuilder.conjunction();
+    }
+
+    /**
+     * Creates a specification to filter books by exact ISBN.
+     */
+    public static Specification<Book> hasIsbn(String isbn) {
+        return (root, query, criteriaBuilder) -> isbn == null
+                ? criteriaBuilder.conjunction()
+                : criteriaBuilder.equal(root.get("isbn"), isbn);
+    }
+
+    /**
+     * Creates a specification to filter books by publication year.
+     */
+    public static Specification<Book> hasPublicationYear(Short publicationYear) {
+        return (root, query, criteriaBuilder) -> publicationYear == null
+                ? criteriaBuilder.conjunction()
+                : criteriaBuilder.equal(root.get("publicationYear"), publicationYear);
+    }
+
+    /**
+     * Creates a specification to filter books by language (case-insensitive).
+     */
+    public static Specification<Book> hasLanguage(String language) {
+        return (root, query, criteriaBuilder) -> language == null
+                ? criteriaBuilder.conjunction()
+                : criteriaBuilder.equal(criteriaBuilder.lower(root.get("language")), language.toLowerCase());
+    }
+
+    /**
+     * Creates a specification to filter books by an active publisher, optionally matching its name.
+     */
+    public static Specification<Book> hasActivePublisher(String publisherName) {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Publisher> publisher = subquery.from(Publisher.class);
+            subquery.select(publisher.get("id"));
+            if (StringUtils.hasText(publisherName)) {
+                subquery.where(criteriaBuilder.isNull(publisher.get("deletedAt")),
+                        matchesWords(criteriaBuilder, publisher.get("name"), publisherName));
+            } else {
+                subquery.where(criteriaBuilder.isNull(publisher.get("deletedAt")));
+            }
+            return root.get("publisherId").in(subquery);
+        };
+    }
+
+    /**
+     * Creates a specification to filter books written by an active author whose name matches.
+     */
+    public static Specification<Book> hasAuthorNamed(String authorName) {
+        return (root, query, criteriaBuilder) -> {
+            if (!StringUtils.hasText(authorName)) {
+                return criteriaBuilder.conjunction();
+            }
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<BookAuthor> bookAuthor = subquery.from(BookAuthor.class);
+            Root<Author> author = subquery.from(Author.class);
+            subquery.select(bookAuthor.get("bookId")).where(
+                    criteriaBuilder.equal(bookAuthor.get("authorId"), author.get("id")),
+                    criteriaBuilder.isNull(author.get("deletedAt")),
+                    matchesWords(criteriaBuilder, author.get("name"), authorName));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    /**
+     * Creates a specification to filter books in an active category whose name matches.
+     */
+    public static Specification<Book> hasCategoryNamed(String categoryName) {
+        return (root, query, criteriaBuilder) -> {
+            if (!StringUtils.hasText(categoryName)) {
+                return criteriaBuilder.conjunction();
+            }
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<BookCategory> bookCategory = subquery.from(BookCategory.class);
+            Root<Category> category = subquery.from(Category.class);
+            subquery.select(bookCategory.get("bookId")).where(
+                    criteriaBuilder.equal(bookCategory.get("categoryId"), category.get("id")),
+                    criteriaBuilder.isNull(category.get("deletedAt")),
+                    matchesWords(criteriaBuilder, category.get("name"), categoryName));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    /**
+     * Combines all search filters of the book list endpoint.
+     */
+    public static Specification<Book> matchesSearch(String title, String isbn, String publisherName, String authorName,
+                                                    String categoryName, Short publicationYear, String language) {
+        return Specification.<Book>where(KeysetSpecification.isNotDeleted())
+                .and(titleMatches(title))
+                .and(hasIsbn(isbn))
+                .and(hasActivePublisher(publisherName))
+                .and(hasAuthorNamed(authorName))
+                .and(hasCategoryNamed(categoryName))
+                .and(hasPublicationYear(publicationYear))
+                .and(hasLanguage(language));
+    }
+
+    // Tokens hold only letters and digits, so they need no LIKE escaping; a query without any matches nothing
+    private static Predicate matchesWords(CriteriaBuilder criteriaBuilder, Expression<String> attribute, String text) {
+        List<String> tokens = BookSearchIndex.tokenize(text);
+        if (tokens.isEmpty()) {
+            return criteriaBuilder.disjunction();
+        }
+        Expression<String> words = criteriaBuilder.concat(" ", criteriaBuilder.function("translate", String.class,
+                criteriaBuilder.lower(attribute), criteriaBuilder.literal(WORD_SEPARATORS),
+                criteriaBuilder.literal(" ".repeat(WORD_SEPARATORS.length()))));
+        return criteriaBuilder.and(tokens.stream()
+                .map(token -> criteriaBuilder.like(words, "% " + token + "%"))
+                .toArray(Predicate[]::new));
+    }
+}
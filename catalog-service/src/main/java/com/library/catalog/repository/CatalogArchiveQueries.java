@@ -0,0 +1,105 @@
+package com.library.catalog.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Moves rows soft-deleted before a cutoff from the hot catalog tables into their {@code *_archive} twins.
+ * Each call handles one batch and must run inside a transaction; candidates are locked with
+ * {@code SKIP LOCKED}, so concurrent replicas split the work instead of waiting on each other.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogArchiveQueries {
+
+    private final EntityManager entityManager;
+
+    public int archiveCopies(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = lockCandidates("""
+                SELECT c.id FROM book_copies c
+                WHERE c.deleted_at < :cutoff
+                ORDER BY c.deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+                """, cutoff, batchSize);
+        return ids.isEmpty() ? 0 : move("book_copies", "id", ids);
+    }
+
+    /**
+     * Books still holding copies (active or not yet due for archival) are left in place; their link rows
+     * move with them and the derived availability and copy number rows are dropped.
+     */
+    public int archiveBooks(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = lockCandidates("""
+                SELECT b.id FROM books b
+                WHERE b.deleted_at < :cutoff
+                  AND NOT EXISTS (SELECT 1 FROM book_copies c WHERE c.book_id = b.id)
+                ORDER BY b.deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+                """, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        move("book_authors", "book_id", ids);
+        move("book_categories", "book_id", ids);
+        delete("book_availability", "book_id", ids);
+        delete("book_copy_sequences", "book_id", ids);
+        return move("books", "id", ids);
+    }
+
+    // Authors still linked to a book stay, the book's detail keeps resolving them
+    public int archiveAuthors(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = lockCandidates("""
+                SELECT a.id FROM authors a
+                WHERE a.deleted_at < :cutoff
+                  AND NOT EXISTS (SELECT 1 FROM book_authors ba WHERE ba.author_id = a.id)
+                ORDER BY a.deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+                """, cutoff, batchSize);
+        return ids.isEmpty() ? 0 : move("authors", "id", ids);
+    }
+
+    public int archiveCategories(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = lockCandidates("""
+                SELECT c.id FROM categories c
+                WHERE c.deleted_at < :cutoff
+                  AND NOT EXISTS (SELECT 1 FROM book_categories bc WHERE bc.category_id = c.id)
+                ORDER BY c.deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+                """, cutoff, batchSize);
+        return ids.isEmpty() ? 0 : move("categories", "id", ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> lockCandidates(String sql, LocalDateTime cutoff, int batchSize) {
+        List<Number> ids = entityManager.createNativeQuery(sql)
+                .setParameter("cutoff", cutoff)
+                .setParameter("batchSize", batchSize)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    // Table and column names are constants from this class, never request input
+    private int move(String table, String column, Collection<Long> ids) {
+        return entityManager.createNativeQuery("""
+                        WITH moved AS (DELETE FROM %1$s WHERE %2$s IN (:ids) RETURNING *)
+                        INSERT INTO %1$s_archive SELECT moved.*, CURRENT_TIMESTAMP FROM moved
+                        """.formatted(table, column))
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private int delete(String table, String column, Collection<Long> ids) {
+        return entityManager.createNativeQuery("DELETE FROM %s WHERE %s IN (:ids)".formatted(table, column))
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
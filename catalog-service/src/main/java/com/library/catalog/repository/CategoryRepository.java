@@ -3,15 +3,19 @@ package com.library.catalog.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends JpaRepository<Category, Long>, JpaSpecificationExecutor<Category> {
 
     // Find active categories with pagination
     Page<Category> findByDeletedAtIsNull(Pageable pageable);
@@ -19,6 +23,14 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // Find active category by public ID
     Optional<Category> findByPublicIdAndDeletedAtIsNull(UUID publicId);
 
+    // Last modification time of an active category, used as its entity tag
+    @Query("SELECT COALESCE(c.updatedAt, c.createdAt) FROM Category c WHERE c.publicId = :publicId AND c.deletedAt IS NULL")
+    Optional<LocalDateTime> findVersionByPublicId(@Param("publicId") UUID publicId);
+
+    // Resolve the internal id of an active category for id-keyed link table lookups
+    @Query("SELECT c.id FROM Category c WHERE c.publicId = :publicId AND c.deletedAt IS NULL")
+    Optional<Long> findCategoryIdByPublicId(@Param("publicId") UUID publicId);
+
     // Check if active category exists by public ID
     boolean existsByPublicIdAndDeletedAtIsNull(UUID publicId);
 
@@ -37,6 +49,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // Find category by name (case-insensitive) excluding deleted ones
     Optional<Category> findByNameIgnoreCaseAndDeletedAtIsNull(String name);
 
+    // Batched name lookup for bulk imports; names must already be lower-cased
+    @Query("SELECT c FROM Category c WHERE LOWER(c.name) IN :names AND c.deletedAt IS NULL")
+    List<Category> findByLowerCaseNamesAndDeletedAtIsNull(@Param("names") Collection<String> names);
+
     // Find categories with complex criteria
     @Query("SELECT c FROM Category c WHERE " +
            "(:name IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
@@ -0,0 +1,73 @@
+package com.library.catalog.repository;
+
+import com.library.catalog.framework.pagination.KeysetCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+/**
+ * Shared specifications for cursor (keyset) pagination over catalog entities.
+ */
+public class KeysetSpecification {
+
+    /**
+     * Creates a specification to filter entities that are not soft deleted.
+     */
+    public static <T> Specification<T> isNotDeleted() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * Creates a specification to filter entities whose attribute contains the given text, ignoring case.
+     */
+    public static <T> Specification<T> containsIgnoreCase(String attribute, String value) {
+        return (root, query, criteriaBuilder) -> {
+            if (!StringUtils.hasText(value)) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.like(criteriaBuilder.lower(root.get(attribute)),
+                    "%" + value.trim().toLowerCase() + "%");
+        };
+    }
+
+    /**
+     * Creates a specification that seeks past the cursor position, i.e. {@code (sortKey, id) > (value, lastId)}
+     * for ascending order and {@code <} for descending order. Nulls rank above every value, matching the
+     * native Postgres ordering that {@code KeysetSlice} sorts with, so rows with a null sort key are neither
+     * skipped nor repeated.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+            Path<Comparable<Object>> key = root.get(cursor.getSortBy());
+            Path<Long> id = root.get("id");
+            if (cursor.isNullValue()) {
+                // Ascending, the nulls come last: only later ids within the nulls remain.
+                // Descending, the nulls come first: the later null ids and then every non-null value remain.
+                if (cursor.isDescending()) {
+                    return criteriaBuilder.or(
+                            criteriaBuilder.and(criteriaBuilder.isNull(key), criteriaBuilder.lessThan(id, cursor.getId())),
+                            criteriaBuilder.isNotNull(key));
+                }
+                return criteriaBuilder.and(criteriaBuilder.isNull(key), criteriaBuilder.greaterThan(id, cursor.getId()));
+            }
+            Comparable<Object> value = asComparable(cursor.valueAs(key.getJavaType()));
+            if (cursor.isDescending()) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.lessThan(key, value),
+                        criteriaBuilder.and(criteriaBuilder.equal(key, value), criteriaBuilder.lessThan(id, cursor.getId())));
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(key, value),
+                    criteriaBuilder.isNull(key),
+                    criteriaBuilder.and(criteriaBuilder.equal(key, value), criteriaBuilder.greaterThan(id, cursor.getId())));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> asComparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.library.catalog.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // One relay per database at a time keeps the publish order; released when the transaction ends
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('catalog_outbox_events'))", nativeQuery = true)
+    boolean tryLockRelay();
+
+    // Oldest events first; rows held by another transaction are skipped instead of waited on
+    @Query(value = "SELECT * FROM catalog_outbox_events ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("batchSize") int batchSize);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
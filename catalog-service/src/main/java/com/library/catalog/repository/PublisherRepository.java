@@ -3,15 +3,19 @@ package com.library.catalog.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PublisherRepository extends JpaRepository<Publisher, Long> {
+public interface PublisherRepository extends JpaRepository<Publisher, Long>, JpaSpecificationExecutor<Publisher> {
 
     Optional<Publisher> findByIdAndDeletedAtIsNull(Long id);
 
@@ -33,10 +37,18 @@ public interface PublisherRepository extends JpaRepository<Publisher, Long> {
     // Find publisher by name (case-insensitive) excluding deleted ones
     Optional<Publisher> findByNameIgnoreCaseAndDeletedAtIsNull(String name);
 
+    // Batched name lookup for bulk imports; names must already be lower-cased
+    @Query("SELECT p FROM Publisher p WHERE LOWER(p.name) IN :names AND p.deletedAt IS NULL")
+    List<Publisher> findByLowerCaseNamesAndDeletedAtIsNull(@Param("names") Collection<String> names);
+
     // Check if publisher exists by internal ID excluding deleted ones (for internal validation)
     boolean existsByIdAndDeletedAtIsNull(Long id);
 
     // Find publisher internal ID by public ID (for public_id to internal ID resolution)
     @Query("SELECT p.id FROM Publisher p WHERE p.publicId = :publicId AND p.deletedAt IS NULL")
     Optional<Long> findPublisherIdByPublicId(@Param("publicId") UUID publicId);
+
+    // Last modification time of an active publisher, used as its entity tag
+    @Query("SELECT COALESCE(p.updatedAt, p.createdAt) FROM Publisher p WHERE p.publicId = :publicId AND p.deletedAt IS NULL")
+    Optional<LocalDateTime> findVersionByPublicId(@Param("publicId") UUID publicId);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.library.catalog.dto.request.UpdateAuthorRequest;
 import com.library.catalog.dto.response.AuthorResponse;
 import com.library.catalog.dto.response.PagedAuthorResponse;
 import com.library.catalog.repository.Author;
+import com.library.catalog.framework.pagination.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -82,4 +83,24 @@ public class AuthorMapper {
 
         return response;
     }
-}
\ No newline at end of file
+
+    public PagedAuthorResponse toPagedResponse(KeysetSlice<Author> slice) {
+        if (slice == null) {
+            return null;
+        }
+
+        PagedAuthorResponse response = new PagedAuthorResponse();
+        response.setContent(slice.getContent().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()));
+
+        // Cursor pages carry no totals, clients follow nextCursor until it is absent
+        response.setPageNumber(0);
+        response.setPageSize(slice.getSize());
+        response.setFirst(slice.isFirst());
+        response.setLast(!slice.isHasNext());
+        response.setNextCursor(slice.getNextCursor());
+
+        return response;
+    }
+}
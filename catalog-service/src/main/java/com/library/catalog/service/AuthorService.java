@@ -6,6 +6,7 @@ import com.library.catalog.dto.request.UpdateAuthorRequest;
 import com.library.catalog.dto.response.AuthorResponse;
 import com.library.catalog.dto.response.PagedAuthorResponse;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AuthorService {
@@ -14,6 +15,8 @@ public interface AuthorService {
 
     AuthorResponse getAuthorByPublicId(UUID publicId);
 
+    Optional<String> getAuthorVersion(UUID publicId);
+
     PagedAuthorResponse getAllAuthors(AuthorSearchRequest request);
 
     AuthorResponse updateAuthor(UUID publicId, UpdateAuthorRequest request);
@@ -1,11 +1,19 @@
 package com.library.catalog.service;
 
 import com.library.catalog.framework.kafka.AuditService;
+import com.library.catalog.framework.pagination.KeysetSlice;
+import com.library.catalog.framework.cache.BookDetailCache;
+import com.library.catalog.framework.cache.ReferenceDataCache;
+import com.library.catalog.framework.cache.RelatedBooksCache;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.framework.web.EntityTags;
 import com.library.catalog.aop.EntityExceptionUtils;
 import com.library.catalog.aop.EntityNotFoundException;
 import com.library.catalog.aop.EntityValidationException;
 import com.library.catalog.repository.Author;
 import com.library.catalog.repository.AuthorRepository;
+import com.library.catalog.repository.KeysetSpecification;
 import com.library.catalog.dto.request.AuthorSearchRequest;
 import com.library.catalog.dto.request.CreateAuthorRequest;
 import com.library.catalog.dto.request.UpdateAuthorRequest;
@@ -19,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -30,6 +39,10 @@ public class AuthorServiceImpl implements AuthorService {
     private final AuthorMapper authorMapper;
     private final AuditService auditService;
     private final UnifiedAuthenticationService unifiedAuthenticationService;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookDetailCache bookDetailCache;
+    private final RelatedBooksCache relatedBooksCache;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -44,6 +57,8 @@ public class AuthorServiceImpl implements AuthorService {
         Author author = authorMapper.toEntity(request);
         // Save to database
         authorRepository.save(author);
+        bookSearchIndex.indexAuthor(author);
+        referenceDataCache.putAuthor(author);
         // Publish audit event for author creation
         auditService.publishCreateEvent("Author", author.getPublicId().toString(), author, unifiedAuthenticationService.getCurrentUserKeycloakId());
         // Convert to response DTO
@@ -54,14 +69,27 @@ public class AuthorServiceImpl implements AuthorService {
     @Transactional(readOnly = true)
     public AuthorResponse getAuthorByPublicId(UUID publicId) {
 
-        Author author = authorRepository.findByPublicIdAndDeletedAtIsNull(publicId)
+        Author author = ReplicaRoutingDataSource.onPrimary(() -> authorRepository.findByPublicIdAndDeletedAtIsNull(publicId))
                 .orElseThrow(() -> EntityNotFoundException.forPublicId("Author", publicId));
         return authorMapper.toResponse(author);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getAuthorVersion(UUID publicId) {
+        // Tag and body are both read from the primary, so a lagging replica cannot pair a new tag with an old body
+        return ReplicaRoutingDataSource.onPrimary(() -> authorRepository.findVersionByPublicId(publicId))
+                .map(EntityTags::fromTimestamp);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedAuthorResponse getAllAuthors(AuthorSearchRequest request) {
+        if (request.useCursor()) {
+            return authorMapper.toPagedResponse(KeysetSlice.fetch(authorRepository,
+                    KeysetSpecification.<Author>isNotDeleted().and(KeysetSpecification.containsIgnoreCase("name", request.getName())),
+                    request.keysetSortBy(), request.keysetDirection(), request.getAfter(), request.getSize(), Author::getId));
+        }
         // Create pageable with sorting
         Pageable pageable = request.toPageable();
         Page<Author> authorPage;
@@ -98,6 +126,10 @@ public class AuthorServiceImpl implements AuthorService {
         authorMapper.updateEntity(existingAuthor, request);
         // Save updated entity
         authorRepository.save(existingAuthor);
+        bookSearchIndex.indexAuthor(existingAuthor);
+        referenceDataCache.putAuthor(existingAuthor);
+        bookDetailCache.evictAll();
+        relatedBooksCache.evictAll();
         // Publish audit event for author update
         auditService.publishUpdateEvent("Author", existingAuthor.getPublicId().toString(), oldAuthor, existingAuthor, unifiedAuthenticationService.getCurrentUserKeycloakId());
         return authorMapper.toResponse(existingAuthor);
@@ -122,6 +154,10 @@ public class AuthorServiceImpl implements AuthorService {
         // Perform timestamp-based soft deletion using repository method
         LocalDateTime now = LocalDateTime.now();
         authorRepository.softDeleteByPublicId(publicId, now, now, unifiedAuthenticationService.getCurrentUserKeycloakId());
+        bookSearchIndex.removeAuthor(existingAuthor.getId());
+        referenceDataCache.removeAuthor(existingAuthor.getId());
+        bookDetailCache.evictAll();
+        relatedBooksCache.evictAll();
         // Publish audit event for author deletion
         auditService.publishDeleteEvent("Author", existingAuthor.getPublicId().toString(), oldAuthor, unifiedAuthenticationService.getCurrentUserKeycloakId());
     }
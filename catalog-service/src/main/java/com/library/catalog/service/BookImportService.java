@@ -0,0 +1,14 @@
+package com.library.catalog.service;
+
+import com.library.catalog.dto.response.BookImportJobResponse;
+import com.library.catalog.framework.importer.BookImportReader;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface BookImportService {
+
+    BookImportJobResponse startImport(BookImportReader.Format format, InputStream body);
+
+    BookImportJobResponse getImportJob(UUID jobId);
+}
@@ -0,0 +1,422 @@
+package com.library.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.catalog.aop.EntityNotFoundException;
+import com.library.catalog.aop.EntityServiceException;
+import com.library.catalog.dto.model.BookImportJob;
+import com.library.catalog.dto.request.BookImportRow;
+import com.library.catalog.dto.response.BookImportJobResponse;
+import com.library.catalog.framework.cache.RelatedBooksCache;
+import com.library.catalog.framework.importer.BookImportReader;
+import com.library.catalog.framework.kafka.AuditService;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.AuthorRepository;
+import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAuthor;
+import com.library.catalog.repository.BookAuthorRepository;
+import com.library.catalog.repository.BookAvailabilityRepository;
+import com.library.catalog.repository.BookCategory;
+import com.library.catalog.repository.BookCategoryRepository;
+import com.library.catalog.repository.BookCopy;
+import com.library.catalog.repository.BookCopyCondition;
+import com.library.catalog.repository.BookCopyRepository;
+import com.library.catalog.repository.BookCopySequence;
+import com.library.catalog.repository.BookCopySequenceRepository;
+import com.library.catalog.repository.BookCopyStatus;
+import com.library.catalog.repository.BookRepository;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.CategoryRepository;
+import com.library.catalog.repository.Publisher;
+import com.library.catalog.repository.PublisherRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookImportServiceImpl implements BookImportService {
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final BookRepository bookRepository;
+    private final BookAuthorRepository bookAuthorRepository;
+    private final BookCategoryRepository bookCategoryRepository;
+    private final BookCopyRepository bookCopyRepository;
+    private final BookCopySequenceRepository bookCopySequenceRepository;
+    private final BookAvailabilityRepository bookAvailabilityRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final RelatedBooksCache relatedBooksCache;
+    private final AuditService auditService;
+    private final UnifiedAuthenticationService unifiedAuthenticationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolTaskExecutor bookImportExecutor;
+
+    // Job status is kept per instance; the Location returned on submit must be polled on the same instance
+    private final Map<UUID, BookImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${catalog.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public BookImportJobResponse startImport(BookImportReader.Format format, InputStream body) {
+        // Step 1: Spool the request body to disk so the import can outlive the request without buffering it in memory
+        Path spoolFile = spool(body);
+
+        // Step 2: Register the job and hand it to the import executor with the caller's security context
+        BookImportJob job = new BookImportJob(format.name(), unifiedAuthenticationService.getCurrentUserKeycloakId());
+        registerJob(job);
+        try {
+            bookImportExecutor.execute(new DelegatingSecurityContextRunnable(() -> runImport(job, format, spoolFile)));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            deleteSpoolFile(spoolFile);
+            throw new EntityServiceException("Book", "import", "Too many imports in progress, retry later", e);
+        }
+        log.info("Book import {} accepted ({}) from {}", job.getJobId(), format, job.getSubmittedBy());
+        return toResponse(job);
+    }
+
+    @Override
+    public BookImportJobResponse getImportJob(UUID jobId) {
+        BookImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw EntityNotFoundException.forEntity("BookImportJob", jobId);
+        }
+        return toResponse(job);
+    }
+
+    private void runImport(BookImportJob job, BookImportReader.Format format, Path spoolFile) {
+        ImportContext context = new ImportContext();
+        try (InputStream input = Files.newInputStream(spoolFile);
+             BookImportReader reader = BookImportReader.open(format, input, objectMapper)) {
+            List<BookImportReader.ParsedRow> chunk = new ArrayList<>(chunkSize);
+            BookImportReader.ParsedRow parsed;
+            while ((parsed = reader.next()) != null) {
+                job.rowProcessed();
+                if (!parsed.isValid()) {
+                    job.rowFailed(parsed.rowNumber(), null, parsed.error());
+                    continue;
+                }
+                chunk.add(parsed);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(job, context, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, context, chunk);
+            }
+            job.complete();
+            log.info("Book import {} completed: {} processed, {} imported, {} skipped, {} failed", job.getJobId(),
+                    job.getProcessedRows(), job.getImportedRows(), job.getSkippedRows(), job.getFailedRows());
+        } catch (Exception e) {
+            log.error("Book import {} aborted after {} rows", job.getJobId(), job.getProcessedRows(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteSpoolFile(spoolFile);
+        }
+    }
+
+    private void importChunk(BookImportJob job, ImportContext context, List<BookImportReader.ParsedRow> chunk) {
+        // Step 1: Validate rows and drop ISBNs repeated within the feed
+        List<BookImportReader.ParsedRow> candidates = new ArrayList<>();
+        for (BookImportReader.ParsedRow parsed : chunk) {
+            BookImportRow row = parsed.row();
+            Set<ConstraintViolation<BookImportRow>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                job.rowFailed(parsed.rowNumber(), row.getIsbn(), describe(violations));
+                continue;
+            }
+            row.setIsbn(row.getIsbn().trim());
+            if (!context.seenIsbns.add(row.getIsbn())) {
+                job.rowSkipped(parsed.rowNumber(), row.getIsbn(), "ISBN appears earlier in the import feed");
+                continue;
+            }
+            candidates.add(parsed);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Step 2: Dedupe against the catalog and resolve names with one query per entity type
+        Set<String> existingIsbns = new HashSet<>(bookRepository.findExistingIsbns(
+                candidates.stream().map(parsed -> parsed.row().getIsbn()).toList()));
+        context.publishers.load(candidates.stream().map(parsed -> parsed.row().getPublisher()).toList());
+        context.authors.load(candidates.stream().flatMap(parsed -> parsed.row().getAuthors().stream()).toList());
+        context.categories.load(candidates.stream().flatMap(parsed -> parsed.row().getCategories().stream()).toList());
+
+        // Step 3: Build the rows that can be inserted, reporting the rest
+        List<PreparedBook> prepared = new ArrayList<>();
+        for (BookImportReader.ParsedRow parsed : candidates) {
+            BookImportRow row = parsed.row();
+            if (existingIsbns.contains(row.getIsbn())) {
+                job.rowSkipped(parsed.rowNumber(), row.getIsbn(), "Book with ISBN already exists");
+                continue;
+            }
+            Long publisherId = context.publishers.idOf(row.getPublisher());
+            if (publisherId == null) {
+                job.rowFailed(parsed.rowNumber(), row.getIsbn(), "Unknown publisher: " + row.getPublisher());
+                continue;
+            }
+            List<String> unknownNames = new ArrayList<>();
+            Set<Long> authorIds = context.authors.idsOf(row.getAuthors(), unknownNames);
+            Set<Long> categoryIds = context.categories.idsOf(row.getCategories(), unknownNames);
+            if (!unknownNames.isEmpty()) {
+                job.rowFailed(parsed.rowNumber(), row.getIsbn(), "Unknown author or category: " + String.join(", ", unknownNames));
+                continue;
+            }
+            prepared.add(new PreparedBook(parsed.rowNumber(), row, publisherId, authorIds, categoryIds));
+        }
+
+        // Step 4: Write the chunk in one transaction; if it fails, retry row by row to isolate the bad rows
+        if (prepared.isEmpty()) {
+            return;
+        }
+        try {
+            insertBooks(prepared, job);
+            job.rowsImported(prepared.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Book import {} chunk of {} rows failed, retrying row by row: {}",
+                    job.getJobId(), prepared.size(), e.getMessage());
+            for (PreparedBook book : prepared) {
+                try {
+                    insertBooks(List.of(book), job);
+                    job.rowsImported(1);
+                } catch (DataAccessException | TransactionException rowException) {
+                    job.rowFailed(book.rowNumber(), book.row().getIsbn(), rootCauseMessage(rowException));
+                }
+            }
+        }
+    }
+
+    private void insertBooks(List<PreparedBook> prepared, BookImportJob job) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // Ids come from the pooled sequences, so every saveAll below is flushed as JDBC batches
+            List<Book> books = bookRepository.saveAll(prepared.stream().map(PreparedBook::toBook).toList());
+
+            List<BookAuthor> bookAuthors = new ArrayList<>();
+            List<BookCategory> bookCategories = new ArrayList<>();
+            List<BookCopy> copies = new ArrayList<>();
+            for (int i = 0; i < books.size(); i++) {
+                Book book = books.get(i);
+                PreparedBook source = prepared.get(i);
+                source.authorIds().forEach(authorId -> bookAuthors.add(new BookAuthor(book.getId(), authorId)));
+                source.categoryIds().forEach(categoryId -> bookCategories.add(new BookCategory(book.getId(), categoryId)));
+                copies.addAll(source.toCopies(book.getId()));
+                bookSearchIndex.indexBook(book, source.authorIds(), source.categoryIds());
+            }
+            bookAuthorRepository.saveAll(bookAuthors);
+            bookCategoryRepository.saveAll(bookCategories);
+            bookCopyRepository.saveAll(copies);
+            relatedBooksCache.evict(RelatedBooksCache.Owner.AUTHOR, bookAuthors.stream().map(BookAuthor::getAuthorId).toList());
+            relatedBooksCache.evict(RelatedBooksCache.Owner.CATEGORY, bookCategories.stream().map(BookCategory::getCategoryId).toList());
+            List<Long> bookIds = books.stream().map(Book::getId).toList();
+            bookCopySequenceRepository.seed(bookIds);
+            bookAvailabilityRepository.refresh(bookIds);
+            // The audit events go to the outbox in this transaction, so they commit or roll back with the books
+            books.forEach(book -> auditService.publishCreateEvent("Book", book.getPublicId().toString(), book,
+                    job.getSubmittedBy()));
+        });
+    }
+
+    private Path spool(InputStream body) {
+        Path spoolFile = null;
+        try {
+            spoolFile = Files.createTempFile("book-import-", ".tmp");
+            Files.copy(body, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            return spoolFile;
+        } catch (IOException e) {
+            deleteSpoolFile(spoolFile);
+            throw new EntityServiceException("Book", "import", "Failed to read import body", e);
+        }
+    }
+
+    private void deleteSpoolFile(Path spoolFile) {
+        if (spoolFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete import spool file {}: {}", spoolFile, e.getMessage());
+        }
+    }
+
+    private void registerJob(BookImportJob job) {
+        jobs.put(job.getJobId(), job);
+        if (jobs.size() > MAX_RETAINED_JOBS) {
+            // Forget the oldest finished jobs first; running jobs are always kept
+            jobs.values().stream()
+                    .filter(BookImportJob::isFinished)
+                    .sorted(Comparator.comparing(BookImportJob::getStartedAt))
+                    .limit(jobs.size() - MAX_RETAINED_JOBS)
+                    .toList()
+                    .forEach(finished -> jobs.remove(finished.getJobId()));
+        }
+    }
+
+    private BookImportJobResponse toResponse(BookImportJob job) {
+        return new BookImportJobResponse(
+                job.getJobId(),
+                job.getStatus().name(),
+                job.getFormat(),
+                job.getProcessedRows().get(),
+                job.getImportedRows().get(),
+                job.getSkippedRows().get(),
+                job.getFailedRows().get(),
+                job.getErrors(),
+                job.isErrorsTruncated(),
+                job.getFailureReason(),
+                job.getStartedAt(),
+                job.getFinishedAt());
+    }
+
+    private static String describe(Set<ConstraintViolation<BookImportRow>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String rootCauseMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * State carried across the chunks of one import: ISBNs already seen in the feed and name-to-id
+     * lookups, so each distinct name is queried at most once per import.
+     */
+    private final class ImportContext {
+
+        private final Set<String> seenIsbns = new HashSet<>();
+
+        private final NameLookup publishers = new NameLookup(names -> publisherRepository
+                .findByLowerCaseNamesAndDeletedAtIsNull(names).stream()
+                .collect(Collectors.toMap(publisher -> normalize(publisher.getName()), Publisher::getId, (first, second) -> first)));
+
+        private final NameLookup authors = new NameLookup(names -> authorRepository
+                .findByLowerCaseNamesAndDeletedAtIsNull(names).stream()
+                .collect(Collectors.toMap(author -> normalize(author.getName()), Author::getId, (first, second) -> first)));
+
+        private final NameLookup categories = new NameLookup(names -> categoryRepository
+                .findByLowerCaseNamesAndDeletedAtIsNull(names).stream()
+                .collect(Collectors.toMap(category -> normalize(category.getName()), Category::getId, (first, second) -> first)));
+    }
+
+    private static final class NameLookup {
+
+        // A null value records a name that was looked up and not found
+        private final Map<String, Long> ids = new HashMap<>();
+        private final Function<Collection<String>, Map<String, Long>> loader;
+
+        private NameLookup(Function<Collection<String>, Map<String, Long>> loader) {
+            this.loader = loader;
+        }
+
+        private void load(Collection<String> names) {
+            List<String> unknown = names.stream()
+                    .map(BookImportServiceImpl::normalize)
+                    .filter(name -> !ids.containsKey(name))
+                    .distinct()
+                    .toList();
+            if (unknown.isEmpty()) {
+                return;
+            }
+            Map<String, Long> found = loader.apply(unknown);
+            unknown.forEach(name -> ids.put(name, found.get(name)));
+        }
+
+        private Long idOf(String name) {
+            return ids.get(normalize(name));
+        }
+
+        private Set<Long> idsOf(List<String> names, List<String> unknownNames) {
+            Set<Long> result = new LinkedHashSet<>();
+            for (String name : names) {
+                Long id = idOf(name);
+                if (id == null) {
+                    unknownNames.add(name);
+                } else {
+                    result.add(id);
+                }
+            }
+            return result;
+        }
+    }
+
+    private record PreparedBook(long rowNumber, BookImportRow row, Long publisherId,
+                                Set<Long> authorIds, Set<Long> categoryIds) {
+
+        private Book toBook() {
+            Book book = new Book();
+            book.setTitle(row.getTitle());
+            book.setIsbn(row.getIsbn());
+            book.setPublicationYear(row.getPublicationYear());
+            book.setDescription(row.getDescription());
+            book.setLanguage(row.getLanguage());
+            book.setNumberOfPages(row.getPages());
+            book.setPublisherId(publisherId);
+            return book;
+        }
+
+        private List<BookCopy> toCopies(Long bookId) {
+            int count = row.getCopies() != null ? row.getCopies() : 0;
+            List<BookCopy> copies = new ArrayList<>(count);
+            for (int number = 1; number <= count; number++) {
+                BookCopy copy = new BookCopy();
+                copy.setBookId(bookId);
+                copy.setCopyNumber(BookCopySequence.formatCopyNumber(number));
+                copy.setStatus(BookCopyStatus.AVAILABLE);
+                copy.setCondition(BookCopyCondition.fromRequestValue(row.getCondition()));
+                copy.setLocation(row.getLocation());
+                copies.add(copy);
+            }
+            return copies;
+        }
+    }
+}
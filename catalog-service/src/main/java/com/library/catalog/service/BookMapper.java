@@ -8,11 +8,13 @@ import com.library.catalog.aop.EntityNotFoundException;
 import com.library.catalog.repository.Author;
 import com.library.catalog.repository.AuthorRepository;
 import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAvailability;
 import com.library.catalog.repository.Category;
 import com.library.catalog.repository.CategoryRepository;
 import com.library.catalog.repository.Publisher;
 import com.library.catalog.repository.PublisherRepository;
 import lombok.RequiredArgsConstructor;
+import com.library.catalog.framework.pagination.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -202,7 +204,8 @@ public class BookMapper {
     public PagedBookResponse toPagedResponse(Page<Book> page,
                                              Map<Long, Publisher> publisherMap,
                                              Map<Long, List<Author>> authorsMap,
-                                             Map<Long, List<Category>> categoriesMap) {
+                                             Map<Long, List<Category>> categoriesMap,
+                                             Map<Long, BookAvailability> availabilityMap) {
         if (page == null) {
             return null;
         }
@@ -210,15 +213,7 @@ public class BookMapper {
         PagedBookResponse response = new PagedBookResponse();
 
         // Convert content with relationship data
-        List<BookResponse> content = page.getContent().stream()
-                .map(book -> {
-                    Publisher publisher = publisherMap != null ? publisherMap.get(book.getPublisherId()) : null;
-                    List<Author> authors = authorsMap != null ? authorsMap.get(book.getId()) : null;
-                    List<Category> categories = categoriesMap != null ? categoriesMap.get(book.getId()) : null;
-                    return toResponse(book, publisher, authors, categories);
-                })
-                .collect(Collectors.toList());
-        response.setContent(content);
+        response.setContent(toResponseList(page.getContent(), publisherMap, authorsMap, categoriesMap, availabilityMap));
 
         // Set pagination metadata
         response.setPageNumber(page.getNumber());
@@ -231,6 +226,47 @@ public class BookMapper {
         return response;
     }
 
+    public PagedBookResponse toPagedResponse(KeysetSlice<Book> slice,
+                                             Map<Long, Publisher> publisherMap,
+                                             Map<Long, List<Author>> authorsMap,
+                                             Map<Long, List<Category>> categoriesMap,
+                                             Map<Long, BookAvailability> availabilityMap) {
+        if (slice == null) {
+            return null;
+        }
+
+        PagedBookResponse response = new PagedBookResponse();
+        response.setContent(toResponseList(slice.getContent(), publisherMap, authorsMap, categoriesMap, availabilityMap));
+
+        // Cursor pages carry no totals, clients follow nextCursor until it is absent
+        response.setPageNumber(0);
+        response.setPageSize(slice.getSize());
+        response.setFirst(slice.isFirst());
+        response.setLast(!slice.isHasNext());
+        response.setNextCursor(slice.getNextCursor());
+
+        return response;
+    }
+
+    private List<BookResponse> toResponseList(List<Book> books,
+                                              Map<Long, Publisher> publisherMap,
+                                              Map<Long, List<Author>> authorsMap,
+                                              Map<Long, List<Category>> categoriesMap,
+                                              Map<Long, BookAvailability> availabilityMap) {
+        return books.stream()
+                .map(book -> {
+                    Publisher publisher = publisherMap != null ? publisherMap.get(book.getPublisherId()) : null;
+                    List<Author> authors = authorsMap != null ? authorsMap.get(book.getId()) : null;
+                    List<Category> categories = categoriesMap != null ? categoriesMap.get(book.getId()) : null;
+                    BookResponse response = toResponse(book, publisher, authors, categories);
+                    if (response != null && availabilityMap != null) {
+                        response.setStatus(BookAvailability.statusOf(availabilityMap.get(book.getId())));
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
     public Long resolvePublisherPublicIdToId(UUID publisherPublicId) {
         if (publisherPublicId == null) {
             throw EntityNotFoundException.forPublicId("Publisher", null);
@@ -1,13 +1,28 @@
 package com.library.catalog.service;
 
+import com.library.catalog.dto.request.BookBatchLookupRequest;
+import com.library.catalog.dto.request.BookCopyBarcodeLookupRequest;
+import com.library.catalog.dto.request.BookCopyClaimRequest;
+import com.library.catalog.dto.request.BookCopyStatusTransitionRequest;
 import com.library.catalog.dto.request.BookSearchRequest;
+import com.library.catalog.dto.request.BookSuggestRequest;
+import com.library.catalog.dto.request.RelatedBooksRequest;
 import com.library.catalog.dto.request.UpdateBookWithCopiesRequest;
 import com.library.catalog.dto.response.BookResponse;
+import com.library.catalog.dto.response.BookAvailabilityResponse;
+import com.library.catalog.dto.response.BookCopyScanBatchResponse;
+import com.library.catalog.dto.response.BookCopyScanResponse;
 import com.library.catalog.dto.response.BookDetailResponse;
+import com.library.catalog.dto.response.BookSuggestionResponse;
+import com.library.catalog.dto.response.BookSummaryBatchResponse;
 import com.library.catalog.dto.request.CreateBookRequest;
 import com.library.catalog.dto.request.CreateBookWithCopiesRequest;
 import com.library.catalog.dto.response.PagedBookResponse;
+import com.library.catalog.framework.web.Versioned;
 
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface BookService {
@@ -18,9 +33,35 @@ public interface BookService {
 
     BookDetailResponse getBookDetail(UUID publicId);
 
+    Optional<String> getBookDetailVersion(UUID publicId);
+
+    Versioned<BookDetailResponse> getVersionedBookDetail(UUID publicId);
+
+    BookAvailabilityResponse getBookAvailability(UUID publicId);
+
+    Optional<String> getBookAvailabilityVersion(UUID publicId);
+
+    BookDetailResponse.BookCopyInfo transitionCopyStatus(UUID copyPublicId, BookCopyStatusTransitionRequest request);
+
+    BookDetailResponse.BookCopyInfo claimCopy(UUID bookPublicId, BookCopyClaimRequest request);
+
+    BookCopyScanResponse getCopyByBarcode(String barcode);
+
+    BookCopyScanBatchResponse getCopiesByBarcodes(BookCopyBarcodeLookupRequest request);
+
+    BookSummaryBatchResponse getBookSummaries(BookBatchLookupRequest request);
+
     PagedBookResponse searchBooks(BookSearchRequest request);
 
+    PagedBookResponse getBooksByAuthor(UUID authorPublicId, RelatedBooksRequest request);
+
+    PagedBookResponse getBooksByCategory(UUID categoryPublicId, RelatedBooksRequest request);
+
+    List<BookSuggestionResponse> suggestBooks(BookSuggestRequest request);
+
     BookDetailResponse updateBookWithCopies(UUID publicId, UpdateBookWithCopiesRequest request);
 
     void deleteBook(UUID publicId);
+
+    void exportBooks(OutputStream output);
 }
\ No newline at end of file
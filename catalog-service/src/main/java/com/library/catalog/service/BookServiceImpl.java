@@ -1,18 +1,48 @@
 package com.library.catalog.service;
 
+import com.library.catalog.dto.request.BookBatchLookupRequest;
+import com.library.catalog.dto.request.BookCopyBarcodeLookupRequest;
+import com.library.catalog.dto.request.BookCopyClaimRequest;
+import com.library.catalog.dto.request.BookCopyStatusTransitionRequest;
 import com.library.catalog.dto.request.BookSearchRequest;
+import com.library.catalog.dto.request.BookSuggestRequest;
+import com.library.catalog.dto.request.RelatedBooksRequest;
 import com.library.catalog.dto.request.UpdateBookWithCopiesRequest;
 import com.library.catalog.dto.response.BookResponse;
 import com.library.catalog.dto.response.BookDetailResponse;
 import com.library.catalog.dto.request.CreateBookRequest;
 import com.library.catalog.dto.request.CreateBookWithCopiesRequest;
 import com.library.catalog.dto.response.PagedBookResponse;
+import com.library.catalog.dto.response.BookExportResponse;
+import com.library.catalog.dto.response.FacetValueResponse;
+import com.library.catalog.dto.response.BookAvailabilityResponse;
+import com.library.catalog.dto.response.BookCopyScanBatchResponse;
+import com.library.catalog.dto.response.BookCopyScanResponse;
+import com.library.catalog.dto.response.BookSuggestionResponse;
+import com.library.catalog.dto.response.BookSummaryBatchResponse;
+import com.library.catalog.dto.response.BookSummaryResponse;
+import com.library.catalog.framework.cache.BookDetailCache;
+import com.library.catalog.framework.cache.ReferenceDataCache;
+import com.library.catalog.framework.cache.RelatedBooksCache;
 import com.library.catalog.framework.kafka.AuditService;
+import com.library.catalog.aop.BookCopyConflictException;
 import com.library.catalog.aop.EntityExceptionUtils;
 import com.library.catalog.aop.EntityNotFoundException;
+import com.library.catalog.aop.EntityServiceException;
+import com.library.catalog.aop.InvalidStatusTransitionException;
+import com.library.catalog.framework.pagination.KeysetCursor;
+import com.library.catalog.framework.pagination.KeysetSlice;
+import com.library.catalog.framework.search.BookFacet;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.framework.search.BookSuggestIndex;
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.framework.web.EntityTags;
+import com.library.catalog.framework.web.Versioned;
 import com.library.catalog.repository.Author;
 import com.library.catalog.repository.AuthorRepository;
 import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAvailability;
+import com.library.catalog.repository.BookAvailabilityRepository;
 import com.library.catalog.repository.BookAuthor;
 import com.library.catalog.repository.BookAuthorRepository;
 import com.library.catalog.repository.BookCategory;
@@ -20,41 +50,91 @@ import com.library.catalog.repository.BookCategoryRepository;
 import com.library.catalog.repository.BookCopy;
 import com.library.catalog.repository.BookCopyCondition;
 import com.library.catalog.repository.BookCopyRepository;
+import com.library.catalog.repository.BookCopyScan;
+import com.library.catalog.repository.BookCopySequence;
+import com.library.catalog.repository.BookCopySequenceRepository;
+import com.library.catalog.repository.BookFacetQueries;
 import com.library.catalog.repository.BookCopyStatus;
 import com.library.catalog.repository.BookRepository;
+import com.library.catalog.repository.BookSpecification;
 import com.library.catalog.repository.Category;
 import com.library.catalog.repository.CategoryRepository;
 import com.library.catalog.repository.Publisher;
 import com.library.catalog.repository.PublisherRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
 
+    // Matches the fetch size of BookRepository.streamAllActive so each batch is one round trip
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private static final int FACET_VALUE_LIMIT = 50;
+
     private final BookRepository bookRepository;
     private final BookAuthorRepository bookAuthorRepository;
     private final BookCategoryRepository bookCategoryRepository;
     private final BookCopyRepository bookCopyRepository;
+    private final BookCopySequenceRepository bookCopySequenceRepository;
+    private final BookAvailabilityRepository bookAvailabilityRepository;
     private final PublisherRepository publisherRepository;
     private final AuthorRepository authorRepository;
     private final CategoryRepository categoryRepository;
     private final BookMapper bookMapper;
     private final AuditService auditService;
     private final UnifiedAuthenticationService unifiedAuthenticationService;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final BookFacetQueries bookFacetQueries;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final BookDetailCache bookDetailCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final RelatedBooksCache relatedBooksCache;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional
@@ -90,15 +170,51 @@ public class BookServiceImpl implements BookService {
         createBookCategoryRelationships(book.getId(), categories);
         // Step 5: Create book copies
         List<BookCopy> copies = createBookCopies(book.getId(), request.getCopies());
+        bookAvailabilityRepository.refresh(List.of(book.getId()));
+        bookSearchIndex.indexBook(book, request.getAuthorIds(), request.getCategoryIds());
+        relatedBooksCache.evict(RelatedBooksCache.Owner.AUTHOR, request.getAuthorIds());
+        relatedBooksCache.evict(RelatedBooksCache.Owner.CATEGORY, request.getCategoryIds());
         // Step 6: Publish audit event
         auditService.publishCreateEvent("Book", book.getPublicId().toString(), book, unifiedAuthenticationService.getCurrentUserKeycloakId());
         // Step 7: Return detailed response
-        return buildBookDetailResponse(book, publisher, authors, categories, copies);
+        return buildBookDetailResponse(book, publisher, authors, categories, copies, loadAvailability(book.getId()));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BookDetailResponse getBookDetail(UUID publicId) {
+        return getVersionedBookDetail(publicId).body();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<String> getBookDetailVersion(UUID publicId) {
+        // A cached detail answers with the version it was loaded at; a miss reads only the version columns
+        Versioned<BookDetailResponse> cached = bookDetailCache.getIfPresent(publicId);
+        if (cached != null) {
+            return Optional.of(cached.version());
+        }
+        return loadForCache(() -> loadBookDetailVersion(publicId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Versioned<BookDetailResponse> getVersionedBookDetail(UUID publicId) {
+        // Cache hits must not open a transaction or borrow a connection; misses load in their own read-only one
+        return bookDetailCache.get(publicId, id -> loadForCache(() -> {
+            // Version first: a write in between leaves the tag older than the body, which only costs a later 200
+            Optional<String> version = loadBookDetailVersion(id);
+            BookDetailResponse detail = loadBookDetail(id);
+            return new Versioned<>(detail, version.orElseGet(() -> loadBookDetailVersion(id).orElseThrow()));
+        }));
+    }
+
+    private Optional<String> loadBookDetailVersion(UUID publicId) {
+        return bookRepository.findDetailVersionByPublicId(publicId)
+                .map(markers -> EntityTags.fromContent(markers.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private BookDetailResponse loadBookDetail(UUID publicId) {
         // Find the book by public ID
         Book book = bookRepository.findByPublicIdAndDeletedAtIsNull(publicId).orElseThrow(() -> EntityNotFoundException.forPublicId("Book", publicId));
 
@@ -107,18 +223,56 @@ public class BookServiceImpl implements BookService {
         List<Author> authors = loadAuthorsByBookId(book.getId());
         List<Category> categories = loadCategoriesByBookId(book.getId());
         List<BookCopy> copies = bookCopyRepository.findByBookIdAndDeletedAtIsNull(book.getId());
-        return buildBookDetailResponse(book, publisher, authors, categories, copies);
+        return buildBookDetailResponse(book, publisher, authors, categories, copies, loadAvailability(book.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedBookResponse searchBooks(BookSearchRequest request) {
 
-        // Perform search with pagination
-        Page<Book> bookPage = bookRepository.searchBooks(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage(), request.toPageable());
+        Set<BookFacet> facets = request.requestedFacets();
+        if (request.useCursor()) {
+            PagedBookResponse response = searchBooksByCursor(request);
+            response.setFacets(countFacets(request, facets));
+            return response;
+        }
+        Pageable pageable = request.toPageable();
+        // Resolve matching ids from the in-memory index and hydrate only the requested page
+        Optional<List<Long>> indexedIds = bookSearchIndex.search(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage(), pageable.getSort(), null);
+        Page<Book> bookPage = indexedIds
+                .map(ids -> loadBookPage(ids, pageable))
+                .orElseGet(() -> bookRepository.findAll(BookSpecification.matchesSearch(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage()), pageable));
 
         // Convert to response with relationship data
-        return bookMapper.toPagedResponse(bookPage, loadPublishersForBooks(bookPage.getContent()), loadAuthorsForBooks(bookPage.getContent()), loadCategoriesForBooks(bookPage.getContent()));
+        PagedBookResponse response = bookMapper.toPagedResponse(bookPage, loadPublishersForBooks(bookPage.getContent()), loadAuthorsForBooks(bookPage.getContent()), loadCategoriesForBooks(bookPage.getContent()), loadAvailabilityForBooks(bookPage.getContent()));
+        response.setFacets(countFacets(request, facets));
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedBookResponse getBooksByAuthor(UUID authorPublicId, RelatedBooksRequest request) {
+        Long authorId = authorRepository.findAuthorIdByPublicId(authorPublicId)
+                .orElseThrow(() -> EntityNotFoundException.forPublicId("Author", authorPublicId));
+        return getRelatedBooks(RelatedBooksCache.Owner.AUTHOR, authorId, request,
+                (afterBookId, limit) -> bookRepository.findByAuthorIdAfter(authorId, afterBookId, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedBookResponse getBooksByCategory(UUID categoryPublicId, RelatedBooksRequest request) {
+        Long categoryId = categoryRepository.findCategoryIdByPublicId(categoryPublicId)
+                .orElseThrow(() -> EntityNotFoundException.forPublicId("Category", categoryPublicId));
+        return getRelatedBooks(RelatedBooksCache.Owner.CATEGORY, categoryId, request,
+                (afterBookId, limit) -> bookRepository.findByCategoryIdAfter(categoryId, afterBookId, limit));
+    }
+
+    @Override
+    public List<BookSuggestionResponse> suggestBooks(BookSuggestRequest request) {
+        // Served from memory only, a keystroke must never reach the database
+        return bookSuggestIndex.suggest(request.getQ(), request.getLimit()).stream()
+                .map(suggestion -> new BookSuggestionResponse(suggestion.type().name().toLowerCase(Locale.ROOT), suggestion.text(), suggestion.bookId()))
+                .toList();
     }
 
     @Override
@@ -170,18 +324,282 @@ public class BookServiceImpl implements BookService {
 
         // Step 8: Update book copies
         List<BookCopy> updatedCopies = updateBookCopies(existingBook.getId(), request.getCopies());
+        bookSearchIndex.indexBook(existingBook, request.getAuthorIds(), request.getCategoryIds());
+        bookDetailCache.evict(publicId);
 
         // Step 9: Publish audit event
         auditService.publishUpdateEvent("Book", existingBook.getPublicId().toString(),
                 oldBook, existingBook, unifiedAuthenticationService.getCurrentUserKeycloakId());
 
         // Step 10: Return detailed response
-        return buildBookDetailResponse(existingBook, publisher, authors, categories, updatedCopies);
+        return buildBookDetailResponse(existingBook, publisher, authors, categories, updatedCopies, loadAvailability(existingBook.getId()));
     }
 
     @Override
     @Transactional
     public void deleteBook(UUID publicId) {
+        bookDetailCache.evict(publicId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getBookAvailabilityVersion(UUID publicId) {
+        // Tag and body are both read from the primary, so a lagging replica cannot pair a new tag with an old body
+        return ReplicaRoutingDataSource.onPrimary(() ->
+                bookAvailabilityRepository.findVersionByBookPublicId(publicId).map(EntityTags::fromTimestamp));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookAvailabilityResponse getBookAvailability(UUID publicId) {
+        return ReplicaRoutingDataSource.onPrimary(() -> loadBookAvailability(publicId));
+    }
+
+    private BookAvailabilityResponse loadBookAvailability(UUID publicId) {
+        Long bookId = bookRepository.findBookIdByPublicId(publicId)
+                .orElseThrow(() -> EntityNotFoundException.forPublicId("Book", publicId));
+        BookAvailability availability = loadAvailability(bookId);
+
+        BookAvailabilityResponse response = new BookAvailabilityResponse();
+        response.setBookId(publicId);
+        response.setStatus(BookAvailability.statusOf(availability));
+        if (availability != null) {
+            response.setTotalCopies(availability.getTotalCopies());
+            response.setAvailableCopies(availability.getAvailableCopies());
+            response.setBorrowedCopies(availability.getBorrowedCopies());
+            response.setReservedCopies(availability.getReservedCopies());
+            response.setBorrowableCopies(availability.getBorrowableCopies());
+            response.setUpdatedAt(availability.getUpdatedAt());
+        }
+        response.setBorrowable(response.getBorrowableCopies() > 0);
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public BookDetailResponse.BookCopyInfo transitionCopyStatus(UUID copyPublicId, BookCopyStatusTransitionRequest request) {
+        BookCopy copy = bookCopyRepository.findByPublicIdAndDeletedAtIsNull(copyPublicId)
+                .orElseThrow(() -> EntityNotFoundException.forPublicId("BookCopy", copyPublicId));
+        if (!request.getExpectedStatus().canTransitionTo(request.getTargetStatus())) {
+            throw InvalidStatusTransitionException.forUpdate(copy.getId(), request.getExpectedStatus(), request.getTargetStatus());
+        }
+        return applyCopyTransition(copy, request.getExpectedStatus(), request.getTargetStatus());
+    }
+
+    @Override
+    @Transactional
+    public BookDetailResponse.BookCopyInfo claimCopy(UUID bookPublicId, BookCopyClaimRequest request) {
+        if (!BookCopyStatus.AVAILABLE.canTransitionTo(request.getTargetStatus())) {
+            throw InvalidStatusTransitionException.forUpdate(null, BookCopyStatus.AVAILABLE, request.getTargetStatus());
+        }
+        Long bookId = bookRepository.findBookIdByPublicId(bookPublicId)
+                .orElseThrow(() -> EntityNotFoundException.forPublicId("Book", bookPublicId));
+        // Concurrent claims on the same title each lock a different copy instead of queueing on the first one
+        BookCopy copy = bookCopyRepository.lockNextBorrowableCopy(bookId)
+                .orElseThrow(() -> BookCopyConflictException.noBorrowableCopy(bookPublicId));
+        return applyCopyTransition(copy, BookCopyStatus.AVAILABLE, request.getTargetStatus());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookCopyScanResponse getCopyByBarcode(String barcode) {
+        return bookCopyRepository.findScansByBarcodes(List.of(barcode)).stream()
+                .findFirst()
+                .map(this::mapBookCopyScan)
+                .orElseThrow(() -> EntityNotFoundException.forCriteria("BookCopy", "barcode=" + barcode));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookCopyScanBatchResponse getCopiesByBarcodes(BookCopyBarcodeLookupRequest request) {
+        Map<String, BookCopyScan> scans = bookCopyRepository.findScansByBarcodes(request.getBarcodes()).stream()
+                .collect(Collectors.toMap(scan -> scan.copy().getBarcode(), Function.identity()));
+
+        List<BookCopyScanResponse> copies = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        for (String barcode : request.getBarcodes()) {
+            BookCopyScan scan = scans.get(barcode);
+            if (scan != null) {
+                copies.add(mapBookCopyScan(scan));
+            } else {
+                notFound.add(barcode);
+            }
+        }
+        return new BookCopyScanBatchResponse(copies, notFound);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookSummaryBatchResponse getBookSummaries(BookBatchLookupRequest request) {
+        // One query each for the books, their author links and their availability; author names come from the cache
+        Set<UUID> publicIds = new LinkedHashSet<>(request.getPublicIds());
+        List<Book> books = bookRepository.findByPublicIdInAndDeletedAtIsNull(publicIds);
+        Map<Long, List<Author>> authorsMap = loadAuthorsForBooks(books);
+        Map<Long, BookAvailability> availabilityMap = loadAvailabilityForBooks(books);
+        Map<UUID, Book> booksByPublicId = books.stream().collect(Collectors.toMap(Book::getPublicId, Function.identity()));
+
+        List<BookSummaryResponse> summaries = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID publicId : publicIds) {
+            Book book = booksByPublicId.get(publicId);
+            if (book != null) {
+                summaries.add(mapBookSummary(book, authorsMap.getOrDefault(book.getId(), List.of()), availabilityMap.get(book.getId())));
+            } else {
+                notFound.add(publicId);
+            }
+        }
+        return new BookSummaryBatchResponse(summaries, notFound);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBooks(OutputStream output) {
+        ObjectWriter writer = objectMapper.writerFor(BookExportResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        List<Book> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+        try (Stream<Book> books = bookRepository.streamAllActive()) {
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == EXPORT_BATCH_SIZE || !iterator.hasNext()) {
+                    writeExportBatch(batch, writer, output);
+                    batch.clear();
+                    // Detach the written books so the persistence context does not grow with the catalog
+                    entityManager.clear();
+                }
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new EntityServiceException("Book", "export", "Failed to write catalog export", e);
+        }
+    }
+
+    private BookDetailResponse.BookCopyInfo applyCopyTransition(BookCopy copy, BookCopyStatus expected, BookCopyStatus target) {
+        // Step 1: Conditional update, zero rows means another request changed the copy first
+        int updated = bookCopyRepository.transitionStatus(copy.getId(), expected, target, LocalDateTime.now(),
+                unifiedAuthenticationService.getCurrentUserKeycloakId());
+        if (updated == 0) {
+            throw BookCopyConflictException.statusChanged(copy.getPublicId(), expected);
+        }
+
+        // Step 2: Keep the availability counters in the same transaction
+        bookAvailabilityRepository.applyTransition(copy.getBookId(), expected, target, copy.getCondition());
+
+        // Step 3: Publish audit event and drop the cached detail, which lists copy statuses
+        BookCopy updatedCopy = bookCopyRepository.findById(copy.getId())
+                .orElseThrow(() -> EntityNotFoundException.forPublicId("BookCopy", copy.getPublicId()));
+        auditService.publishUpdateEvent("BookCopy", copy.getPublicId().toString(), copy, updatedCopy,
+                unifiedAuthenticationService.getCurrentUserKeycloakId());
+        bookRepository.findById(copy.getBookId()).ifPresent(book -> bookDetailCache.evict(book.getPublicId()));
+
+        return mapBookCopy(updatedCopy);
+    }
+
+    private BookCopyScanResponse mapBookCopyScan(BookCopyScan scan) {
+        BookCopyScanResponse.BookSummary summary = new BookCopyScanResponse.BookSummary();
+        summary.setId(scan.book().getPublicId());
+        summary.setTitle(scan.book().getTitle());
+        summary.setIsbn(scan.book().getIsbn());
+        summary.setStatus(BookAvailability.statusOf(scan.availability()));
+        summary.setAvailableCopies(scan.availability() != null ? scan.availability().getAvailableCopies() : 0);
+        return new BookCopyScanResponse(mapBookCopy(scan.copy()), summary);
+    }
+
+    // Cache fills read the primary in their own read-only transaction, a lagging replica would re-cache what a
+    // commit has just evicted
+    private <T> T loadForCache(Supplier<T> loader) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return ReplicaRoutingDataSource.onPrimary(() -> template.execute(status -> loader.get()));
+    }
+
+    private void writeExportBatch(List<Book> books, ObjectWriter writer, OutputStream output) throws IOException {
+        // Related data for the whole batch in one query per table, as in the list endpoint
+        Map<Long, Publisher> publishers = loadPublishersForBooks(books);
+        Map<Long, List<Author>> authors = loadAuthorsForBooks(books);
+        Map<Long, List<Category>> categories = loadCategoriesForBooks(books);
+        Map<Long, BookAvailability> availability = loadAvailabilityForBooks(books);
+
+        for (Book book : books) {
+            BookAvailability counts = availability.get(book.getId());
+            BookResponse response = bookMapper.toResponse(book, publishers.get(book.getPublisherId()),
+                    authors.getOrDefault(book.getId(), List.of()), categories.getOrDefault(book.getId(), List.of()));
+            response.setStatus(BookAvailability.statusOf(counts));
+            BookExportResponse line = new BookExportResponse(response,
+                    counts != null ? counts.getTotalCopies() : 0,
+                    counts != null ? counts.getAvailableCopies() : 0);
+            writer.writeValue(output, line);
+            output.write('\n');
+        }
+    }
+
+    private Map<String, List<FacetValueResponse>> countFacets(BookSearchRequest request, Set<BookFacet> facets) {
+        if (facets.isEmpty()) {
+            return null;
+        }
+        // All facets in one pass over the index matches; grouped counts in the database only while it is not ready
+        Map<BookFacet, List<BookSearchIndex.FacetCount>> counts = bookSearchIndex.facets(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage(), facets, FACET_VALUE_LIMIT)
+                .orElseGet(() -> {
+                    Specification<Book> filter = BookSpecification.matchesSearch(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage());
+                    Map<BookFacet, List<BookSearchIndex.FacetCount>> fromDatabase = new EnumMap<>(BookFacet.class);
+                    facets.forEach(facet -> fromDatabase.put(facet, bookFacetQueries.countBy(facet, filter, FACET_VALUE_LIMIT)));
+                    return fromDatabase;
+                });
+
+        Map<String, List<FacetValueResponse>> response = new LinkedHashMap<>();
+        counts.forEach((facet, values) -> response.put(facet.getRequestName(), values.stream()
+                .map(value -> new FacetValueResponse(value.value(), value.count()))
+                .toList()));
+        return response;
+    }
+
+    private PagedBookResponse getRelatedBooks(RelatedBooksCache.Owner owner, Long ownerId, RelatedBooksRequest request,
+                                              BiFunction<Long, Limit, List<Book>> seek) {
+        int size = request.getSize();
+        KeysetCursor after = KeysetCursor.decode(request.getAfter(), "id", Sort.Direction.ASC);
+        Supplier<PagedBookResponse> loader = () -> {
+            // Link rows are walked in book id order, so the cursor only needs the last book id
+            KeysetSlice<Book> slice = KeysetSlice.of(seek.apply(after == null ? 0L : after.getId(), Limit.of(size + 1)),
+                    size, after == null, "id", Sort.Direction.ASC, Book::getId);
+            List<Book> books = slice.getContent();
+            return bookMapper.toPagedResponse(slice, loadPublishersForBooks(books), loadAuthorsForBooks(books), loadCategoriesForBooks(books), loadAvailabilityForBooks(books));
+        };
+        // Only the first page is shared by most readers; deeper pages are plain index seeks
+        return after == null
+                ? relatedBooksCache.getFirstPage(owner, ownerId, size, () -> loadForCache(loader))
+                : loader.get();
+    }
+
+    private PagedBookResponse searchBooksByCursor(BookSearchRequest request) {
+        String sortBy = request.keysetSortBy();
+        Sort.Direction direction = request.keysetDirection();
+        KeysetCursor after = KeysetCursor.decode(request.getAfter(), sortBy, direction);
+        int size = request.getSize();
+
+        // Seek past the cursor in the index when possible, otherwise with a (sortKey, id) predicate in the database
+        KeysetSlice<Book> slice = bookSearchIndex.search(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage(), Sort.by(direction, sortBy).and(Sort.by(direction, "id")), after)
+                .map(ids -> KeysetSlice.of(loadBooksInOrder(ids.subList(0, Math.min(ids.size(), size + 1))), size, after == null, sortBy, direction, Book::getId))
+                .orElseGet(() -> KeysetSlice.fetch(bookRepository, BookSpecification.matchesSearch(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage()), sortBy, direction, request.getAfter(), size, Book::getId));
+
+        List<Book> books = slice.getContent();
+        return bookMapper.toPagedResponse(slice, loadPublishersForBooks(books), loadAuthorsForBooks(books), loadCategoriesForBooks(books), loadAvailabilityForBooks(books));
+    }
+
+    private Page<Book> loadBookPage(List<Long> orderedIds, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), orderedIds.size());
+        return new PageImpl<>(loadBooksInOrder(orderedIds.subList(fromIndex, toIndex)), pageable, orderedIds.size());
+    }
+
+    private List<Book> loadBooksInOrder(List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> booksById = bookRepository.findAllById(orderedIds).stream()
+                .filter(book -> !book.isDeleted())
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return orderedIds.stream().map(booksById::get).filter(Objects::nonNull).toList();
     }
 
     private Map<Long, Publisher> loadPublishersForBooks(List<Book> books) {
@@ -190,10 +608,7 @@ public class BookServiceImpl implements BookService {
             return new HashMap<>();
         }
         Set<Long> publisherIds = books.stream().map(Book::getPublisherId).collect(Collectors.toSet());
-        return publisherRepository.findAllById(publisherIds)
-                .stream()
-                .filter(publisher -> !publisher.isDeleted())
-                .collect(Collectors.toMap(Publisher::getId, publisher -> publisher));
+        return referenceDataCache.getPublishers(publisherIds);
     }
 
     private Map<Long, List<Author>> loadAuthorsForBooks(List<Book> books) {
@@ -207,7 +622,7 @@ public class BookServiceImpl implements BookService {
         // Get author IDs
         Set<Long> authorIds = bookAuthors.stream().map(BookAuthor::getAuthorId).collect(Collectors.toSet());
         // Load authors
-        Map<Long, Author> authorsMap = authorRepository.findAllById(new ArrayList<>(authorIds)).stream().filter(author -> !author.isDeleted()).collect(Collectors.toMap(Author::getId, author -> author));
+        Map<Long, Author> authorsMap = referenceDataCache.getAuthors(authorIds);
         // Group by book ID
         return bookAuthors.stream().filter(ba -> authorsMap.containsKey(ba.getAuthorId())).collect(Collectors.groupingBy(BookAuthor::getBookId, Collectors.mapping(ba -> authorsMap.get(ba.getAuthorId()), Collectors.toList())));
     }
@@ -225,7 +640,7 @@ public class BookServiceImpl implements BookService {
         Set<Long> categoryIds = bookCategories.stream().map(BookCategory::getCategoryId).collect(Collectors.toSet());
 
         // Load categories
-        Map<Long, Category> categoriesMap = categoryRepository.findAllById(new ArrayList<>(categoryIds)).stream().filter(category -> !category.isDeleted()).collect(Collectors.toMap(Category::getId, category -> category));
+        Map<Long, Category> categoriesMap = referenceDataCache.getCategories(categoryIds);
         // Group by book ID
         return bookCategories.stream().filter(bc -> categoriesMap.containsKey(bc.getCategoryId())).collect(Collectors.groupingBy(BookCategory::getBookId, Collectors.mapping(bc -> categoriesMap.get(bc.getCategoryId()), Collectors.toList())));
     }
@@ -234,8 +649,7 @@ public class BookServiceImpl implements BookService {
         if (publisherId == null) {
             return null;
         }
-        return publisherRepository.findById(publisherId)
-                .filter(publisher -> !publisher.isDeleted())
+        return Optional.ofNullable(referenceDataCache.getPublishers(List.of(publisherId)).get(publisherId))
                 .orElseThrow(() -> new EntityNotFoundException("Publisher with ID " + publisherId + " not found"));
     }
 
@@ -247,7 +661,7 @@ public class BookServiceImpl implements BookService {
 
         Set<Long> authorIds = bookAuthors.stream().map(BookAuthor::getAuthorId).collect(Collectors.toSet());
 
-        return authorRepository.findAllById(new ArrayList<>(authorIds)).stream().filter(author -> !author.isDeleted()).collect(Collectors.toList());
+        return new ArrayList<>(referenceDataCache.getAuthors(authorIds).values());
     }
 
     private List<Category> loadCategoriesByBookId(Long bookId) {
@@ -258,22 +672,31 @@ public class BookServiceImpl implements BookService {
 
         Set<Long> categoryIds = bookCategories.stream().map(BookCategory::getCategoryId).collect(Collectors.toSet());
 
-        return categoryRepository.findAllById(new ArrayList<>(categoryIds)).stream().filter(category -> !category.isDeleted()).collect(Collectors.toList());
+        return new ArrayList<>(referenceDataCache.getCategories(categoryIds).values());
     }
 
-    private String determineBookStatus(List<BookCopy> copies) {
-        if (copies.isEmpty()) {
-            return "unavailable";
-        }
-        boolean hasAvailable = copies.stream().anyMatch(c -> BookCopyStatus.AVAILABLE.equals(c.getStatus()));
-        if (hasAvailable) {
-            return "available";
-        }
-        boolean hasBorrowed = copies.stream().anyMatch(c -> BookCopyStatus.BORROWED.equals(c.getStatus()));
-        if (hasBorrowed) {
-            return "borrowed";
+    private BookAvailability loadAvailability(Long bookId) {
+        return bookAvailabilityRepository.findById(bookId).orElse(null);
+    }
+
+    private Map<Long, BookAvailability> loadAvailabilityForBooks(List<Book> books) {
+        if (books.isEmpty()) {
+            return new HashMap<>();
         }
-        return "unavailable";
+        return bookAvailabilityRepository.findAllById(books.stream().map(Book::getId).toList()).stream()
+                .collect(Collectors.toMap(BookAvailability::getBookId, Function.identity()));
+    }
+
+    private BookSummaryResponse mapBookSummary(Book book, List<Author> authors, BookAvailability availability) {
+        return new BookSummaryResponse(
+                book.getPublicId(),
+                book.getTitle(),
+                book.getIsbn(),
+                authors.stream().map(Author::getName).toList(),
+                BookAvailability.statusOf(availability),
+                availability != null ? availability.getTotalCopies() : 0,
+                availability != null ? availability.getAvailableCopies() : 0
+        );
     }
 
     private List<BookDetailResponse.BookCopyInfo> mapBookCopies(List<BookCopy> copies) {
@@ -287,7 +710,7 @@ public class BookServiceImpl implements BookService {
         copyInfo.setStatus(copy.getStatus().name().toLowerCase());
         copyInfo.setCondition(copy.getCondition() != null ? mapConditionToDisplayName(copy.getCondition()) : null);
         copyInfo.setLocation(copy.getLocation());
-        copyInfo.setBarcode(generateBarcode(copy));
+        copyInfo.setBarcode(copy.getBarcode());
         copyInfo.setCreatedAt(copy.getCreatedAt());
         copyInfo.setUpdatedAt(copy.getUpdatedAt());
         return copyInfo;
@@ -303,25 +726,23 @@ public class BookServiceImpl implements BookService {
         };
     }
 
-    private String generateBarcode(BookCopy copy) {
-        return "GB" + String.format("%06d", copy.getId());
-    }
-
     private List<Author> loadAuthorsByIds(List<Long> authorIds) {
         if (authorIds == null || authorIds.isEmpty()) {
             throw new IllegalArgumentException("Author IDs cannot be empty");
         }
 
-        List<Author> authors = authorRepository.findAllById(authorIds).stream().filter(author -> !author.isDeleted()).collect(Collectors.toList());
+        // Writes validate against the database, not the near-cache, which can lag a concurrent delete
+        Map<Long, Author> found = authorRepository.findAllById(authorIds).stream()
+                .filter(author -> !author.isDeleted())
+                .collect(Collectors.toMap(Author::getId, author -> author));
 
         // Validate that all authors were found
-        if (authors.size() != authorIds.size()) {
-            Set<Long> foundIds = authors.stream().map(Author::getId).collect(Collectors.toSet());
-            List<Long> missingIds = authorIds.stream().filter(id -> !foundIds.contains(id)).toList();
+        List<Long> missingIds = authorIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
             throw new EntityNotFoundException("Author(s) with ID(s) " + missingIds + " not found");
         }
 
-        return authors;
+        return authorIds.stream().distinct().map(found::get).collect(Collectors.toList());
     }
 
     private List<Category> loadCategoriesByIds(List<Long> categoryIds) {
@@ -329,76 +750,69 @@ public class BookServiceImpl implements BookService {
             throw new IllegalArgumentException("Category IDs cannot be empty");
         }
 
-        List<Category> categories = categoryRepository.findAllById(categoryIds)
-                .stream()
+        Map<Long, Category> found = categoryRepository.findAllById(categoryIds).stream()
                 .filter(category -> !category.isDeleted())
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(Category::getId, category -> category));
 
         // Validate that all categories were found
-        if (categories.size() != categoryIds.size()) {
-            Set<Long> foundIds = categories.stream().map(Category::getId).collect(Collectors.toSet());
-            List<Long> missingIds = categoryIds.stream().filter(id -> !foundIds.contains(id)).toList();
+        List<Long> missingIds = categoryIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
             throw new EntityNotFoundException("Category(s) with ID(s) " + missingIds + " not found");
         }
 
-        return categories;
+        return categoryIds.stream().distinct().map(found::get).collect(Collectors.toList());
     }
 
     private void createBookAuthorRelationships(Long bookId, List<Author> authors) {
-        for (Author author : authors) {
-            BookAuthor bookAuthor = new BookAuthor();
-            bookAuthor.setBookId(bookId);
-            bookAuthor.setAuthorId(author.getId());
-            bookAuthorRepository.save(bookAuthor);
-        }
+        bookAuthorRepository.saveAll(authors.stream()
+                .map(author -> new BookAuthor(bookId, author.getId()))
+                .toList());
     }
 
     private void createBookCategoryRelationships(Long bookId, List<Category> categories) {
-        for (Category category : categories) {
-            BookCategory bookCategory = new BookCategory();
-            bookCategory.setBookId(bookId);
-            bookCategory.setCategoryId(category.getId());
-            bookCategoryRepository.save(bookCategory);
-        }
+        bookCategoryRepository.saveAll(categories.stream()
+                .map(category -> new BookCategory(bookId, category.getId()))
+                .toList());
     }
 
     private List<BookCopy> createBookCopies(Long bookId, List<CreateBookWithCopiesRequest.BookCopyRequest> copyRequests) {
         List<BookCopy> copies = new ArrayList<>();
+        Iterator<String> allocatedNumbers = allocateCopyNumbers(bookId, copyRequests.stream()
+                .filter(copyRequest -> !StringUtils.hasText(copyRequest.getCopyNumber()))
+                .count(), copyRequests.stream()
+                .map(CreateBookWithCopiesRequest.BookCopyRequest::getCopyNumber)
+                .filter(StringUtils::hasText)
+                .toList());
 
         for (CreateBookWithCopiesRequest.BookCopyRequest copyRequest : copyRequests) {
             BookCopy copy = new BookCopy();
             copy.setBookId(bookId);
-            copy.setCopyNumber(copyRequest.getCopyNumber());
+            copy.setCopyNumber(StringUtils.hasText(copyRequest.getCopyNumber()) ? copyRequest.getCopyNumber() : allocatedNumbers.next());
             copy.setStatus(BookCopyStatus.AVAILABLE); // Default status for new copies
-            copy.setCondition(mapConditionFromString(copyRequest.getCondition()));
+            copy.setCondition(BookCopyCondition.fromRequestValue(copyRequest.getCondition()));
             copy.setLocation(copyRequest.getLocation());
-            // Save the copy first to get the ID for barcode generation
-            copy = bookCopyRepository.save(copy);
             copies.add(copy);
         }
 
-        return copies;
+        // Sequence-generated ids are assigned on persist, so the inserts are batched at flush
+        return bookCopyRepository.saveAll(copies);
     }
 
-    private BookCopyCondition mapConditionFromString(String condition) {
-        return switch (condition.toLowerCase()) {
-            case "excellent" -> BookCopyCondition.NEW;
-            case "good" -> BookCopyCondition.GOOD;
-            case "fair" -> BookCopyCondition.FAIR;
-            case "poor" -> BookCopyCondition.POOR;
-            case "damaged" -> BookCopyCondition.DAMAGED;
-            default -> BookCopyCondition.GOOD; // Default to good condition
-        };
+    // One counter update reserves the numbers for every copy in the request that did not name its own,
+    // above any "C<n>" number the request names explicitly
+    private Iterator<String> allocateCopyNumbers(Long bookId, long count, List<String> explicitNumbers) {
+        return bookCopySequenceRepository.reserveCopyNumbers(bookId, Math.toIntExact(count),
+                BookCopySequence.highestGeneratedNumber(explicitNumbers)).iterator();
     }
 
-    private BookDetailResponse buildBookDetailResponse(Book book, Publisher publisher, List<Author> authors, List<Category> categories, List<BookCopy> copies) {
+    private BookDetailResponse buildBookDetailResponse(Book book, Publisher publisher, List<Author> authors, List<Category> categories, List<BookCopy> copies, BookAvailability availability) {
         BookDetailResponse response = new BookDetailResponse();
         response.setId(book.getPublicId());
         response.setTitle(book.getTitle());
         response.setAuthor(authors.stream().map(Author::getName).collect(Collectors.joining(", ")));
         response.setIsbn(book.getIsbn());
         response.setCategory(categories.stream().map(Category::getName).collect(Collectors.joining(", ")));
-        response.setStatus(determineBookStatus(copies));
+        response.setStatus(BookAvailability.statusOf(availability));
         response.setCopies(mapBookCopies(copies));
         response.setPublisher(Objects.nonNull(publisher) ? publisher.getName() : "-");
         response.setPublicationYear(book.getPublicationYear());
@@ -412,61 +826,111 @@ public class BookServiceImpl implements BookService {
     }
 
     private void updateBookAuthorRelationships(Long bookId, List<Author> newAuthors) {
-        // Delete existing relationships
-        bookAuthorRepository.deleteByBookId(bookId);
-
-        // Create new relationships
-        createBookAuthorRelationships(bookId, newAuthors);
+        Set<Long> currentIds = bookAuthorRepository.findByBookId(bookId).stream()
+                .map(BookAuthor::getAuthorId)
+                .collect(Collectors.toSet());
+        Set<Long> newIds = newAuthors.stream().map(Author::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+        // Pages of both former and current authors show this book's title and links
+        relatedBooksCache.evict(RelatedBooksCache.Owner.AUTHOR, currentIds);
+        relatedBooksCache.evict(RelatedBooksCache.Owner.AUTHOR, newIds);
+
+        // Only touch the associations that actually changed
+        Set<Long> removedIds = new HashSet<>(currentIds);
+        removedIds.removeAll(newIds);
+        if (!removedIds.isEmpty()) {
+            bookAuthorRepository.deleteByBookIdAndAuthorIdIn(bookId, removedIds);
+        }
+        List<BookAuthor> added = newIds.stream()
+                .filter(authorId -> !currentIds.contains(authorId))
+                .map(authorId -> new BookAuthor(bookId, authorId))
+                .toList();
+        if (!added.isEmpty()) {
+            bookAuthorRepository.saveAll(added);
+        }
     }
 
     private void updateBookCategoryRelationships(Long bookId, List<Category> newCategories) {
-        // Delete existing relationships
-        bookCategoryRepository.deleteByBookId(bookId);
-
-        // Create new relationships
-        createBookCategoryRelationships(bookId, newCategories);
+        Set<Long> currentIds = bookCategoryRepository.findByBookId(bookId).stream()
+                .map(BookCategory::getCategoryId)
+                .collect(Collectors.toSet());
+        Set<Long> newIds = newCategories.stream().map(Category::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+        relatedBooksCache.evict(RelatedBooksCache.Owner.CATEGORY, currentIds);
+        relatedBooksCache.evict(RelatedBooksCache.Owner.CATEGORY, newIds);
+
+        Set<Long> removedIds = new HashSet<>(currentIds);
+        removedIds.removeAll(newIds);
+        if (!removedIds.isEmpty()) {
+            bookCategoryRepository.deleteByBookIdAndCategoryIdIn(bookId, removedIds);
+        }
+        List<BookCategory> added = newIds.stream()
+                .filter(categoryId -> !currentIds.contains(categoryId))
+                .map(categoryId -> new BookCategory(bookId, categoryId))
+                .toList();
+        if (!added.isEmpty()) {
+            bookCategoryRepository.saveAll(added);
+        }
     }
 
     private List<BookCopy> updateBookCopies(Long bookId, List<UpdateBookWithCopiesRequest.BookCopyUpdateRequest> copyRequests) {
-        // Get existing copies
+        // Get existing copies; they stay managed, so Hibernate dirty checking writes only the ones that change
         List<BookCopy> existingCopies = bookCopyRepository.findByBookIdAndDeletedAtIsNull(bookId);
         Map<UUID, BookCopy> existingCopiesMap = existingCopies.stream()
                 .collect(Collectors.toMap(BookCopy::getPublicId, copy -> copy));
 
         List<BookCopy> updatedCopies = new ArrayList<>();
+        List<BookCopy> newCopies = new ArrayList<>();
+        boolean countsChanged = false;
+        // Existing copies echo their own numbers back; only new numbers can collide with the counter
+        List<UpdateBookWithCopiesRequest.BookCopyUpdateRequest> keptRequests = copyRequests.stream()
+                .filter(copyRequest -> !Boolean.TRUE.equals(copyRequest.getDeleted()))
+                .toList();
+        Iterator<String> allocatedNumbers = allocateCopyNumbers(bookId, keptRequests.stream()
+                .filter(copyRequest -> copyRequest.getId() == null || !existingCopiesMap.containsKey(copyRequest.getId()))
+                .filter(copyRequest -> !StringUtils.hasText(copyRequest.getCopyNumber()))
+                .count(), keptRequests.stream()
+                .filter(copyRequest -> StringUtils.hasText(copyRequest.getCopyNumber()))
+                .filter(copyRequest -> copyRequest.getId() == null || !existingCopiesMap.containsKey(copyRequest.getId())
+                        || !copyRequest.getCopyNumber().equals(existingCopiesMap.get(copyRequest.getId()).getCopyNumber()))
+                .map(UpdateBookWithCopiesRequest.BookCopyUpdateRequest::getCopyNumber)
+                .toList());
 
         for (UpdateBookWithCopiesRequest.BookCopyUpdateRequest copyRequest : copyRequests) {
             if (copyRequest.getDeleted() != null && copyRequest.getDeleted()) {
                 // Mark copy for deletion (soft delete)
                 if (copyRequest.getId() != null) {
                     BookCopy existingCopy = existingCopiesMap.get(copyRequest.getId());
-                    if (existingCopy != null) {
+                    if (existingCopy != null && !existingCopy.isDeleted()) {
                         existingCopy.markAsDeleted();
-                        bookCopyRepository.save(existingCopy);
+                        countsChanged = true;
                     }
                 }
                 continue;
             }
 
-            BookCopy copy;
             if (copyRequest.getId() != null && existingCopiesMap.containsKey(copyRequest.getId())) {
-                // Update existing copy
-                copy = existingCopiesMap.get(copyRequest.getId());
-                copy.setCopyNumber(copyRequest.getCopyNumber());
-                copy.setCondition(mapConditionFromString(copyRequest.getCondition()));
+                // Update existing copy, assigning unchanged values leaves it clean
+                BookCopy copy = existingCopiesMap.get(copyRequest.getId());
+                if (StringUtils.hasText(copyRequest.getCopyNumber())) {
+                    copy.setCopyNumber(copyRequest.getCopyNumber());
+                }
+                BookCopyCondition condition = BookCopyCondition.fromRequestValue(copyRequest.getCondition());
+                if (condition != copy.getCondition()) {
+                    copy.setCondition(condition);
+                    countsChanged = true;
+                }
                 copy.setLocation(copyRequest.getLocation());
+                updatedCopies.add(copy);
             } else {
                 // Create new copy
-                copy = new BookCopy();
+                BookCopy copy = new BookCopy();
                 copy.setBookId(bookId);
-                copy.setCopyNumber(copyRequest.getCopyNumber());
+                copy.setCopyNumber(StringUtils.hasText(copyRequest.getCopyNumber()) ? copyRequest.getCopyNumber() : allocatedNumbers.next());
                 copy.setStatus(BookCopyStatus.AVAILABLE); // Default status for new copies
-                copy.setCondition(mapConditionFromString(copyRequest.getCondition()));
+                copy.setCondition(BookCopyCondition.fromRequestValue(copyRequest.getCondition()));
                 copy.setLocation(copyRequest.getLocation());
+                newCopies.add(copy);
+                updatedCopies.add(copy);
             }
-
-            copy = bookCopyRepository.save(copy);
-            updatedCopies.add(copy);
         }
 
         // Soft delete copies that are not in the request (removed copies)
@@ -476,12 +940,19 @@ public class BookServiceImpl implements BookService {
                 .collect(Collectors.toSet());
 
         for (BookCopy existingCopy : existingCopies) {
-            if (!requestCopyIds.contains(existingCopy.getPublicId())) {
+            if (!requestCopyIds.contains(existingCopy.getPublicId()) && !existingCopy.isDeleted()) {
                 existingCopy.markAsDeleted();
-                bookCopyRepository.save(existingCopy);
+                countsChanged = true;
             }
         }
 
+        if (!newCopies.isEmpty()) {
+            bookCopyRepository.saveAll(newCopies);
+            countsChanged = true;
+        }
+        if (countsChanged) {
+            bookAvailabilityRepository.refresh(List.of(bookId));
+        }
         return updatedCopies;
     }
 }
\ No newline at end of file
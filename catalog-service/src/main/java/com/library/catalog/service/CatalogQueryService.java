@@ -0,0 +1,41 @@
+package com.library.catalog.service;
+
+import com.library.catalog.dto.request.BookSearchRequest;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAvailability;
+import com.library.catalog.repository.BookCopy;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.Publisher;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Entity-level reads behind the GraphQL API. The {@code load*} methods resolve one relationship for a
+ * whole batch of books with a single query and return the results in the order of the given books.
+ */
+public interface CatalogQueryService {
+
+    Optional<Book> findBook(UUID publicId);
+
+    Page<Book> searchBooks(BookSearchRequest request);
+
+    Optional<Author> findAuthor(UUID publicId);
+
+    Optional<Category> findCategory(UUID publicId);
+
+    Optional<Publisher> findPublisher(UUID publicId);
+
+    List<Publisher> loadPublishers(List<Book> books);
+
+    List<List<Author>> loadAuthors(List<Book> books);
+
+    List<List<Category>> loadCategories(List<Book> books);
+
+    List<List<BookCopy>> loadCopies(List<Book> books);
+
+    List<BookAvailability> loadAvailability(List<Book> books);
+}
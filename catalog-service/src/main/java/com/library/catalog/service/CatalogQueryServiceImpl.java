@@ -0,0 +1,144 @@
+package com.library.catalog.service;
+
+import com.library.catalog.dto.request.BookSearchRequest;
+import com.library.catalog.framework.cache.ReferenceDataCache;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.AuthorRepository;
+import com.library.catalog.repository.Book;
+import com.library.catalog.repository.BookAuthor;
+import com.library.catalog.repository.BookAuthorRepository;
+import com.library.catalog.repository.BookAvailability;
+import com.library.catalog.repository.BookAvailabilityRepository;
+import com.library.catalog.repository.BookCategory;
+import com.library.catalog.repository.BookCategoryRepository;
+import com.library.catalog.repository.BookCopy;
+import com.library.catalog.repository.BookCopyRepository;
+import com.library.catalog.repository.BookRepository;
+import com.library.catalog.repository.BookSpecification;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.CategoryRepository;
+import com.library.catalog.repository.Publisher;
+import com.library.catalog.repository.PublisherRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CatalogQueryServiceImpl implements CatalogQueryService {
+
+    private final BookRepository bookRepository;
+    private final BookAuthorRepository bookAuthorRepository;
+    private final BookCategoryRepository bookCategoryRepository;
+    private final BookCopyRepository bookCopyRepository;
+    private final BookAvailabilityRepository bookAvailabilityRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final ReferenceDataCache referenceDataCache;
+
+    @Override
+    public Optional<Book> findBook(UUID publicId) {
+        return bookRepository.findByPublicIdAndDeletedAtIsNull(publicId);
+    }
+
+    @Override
+    public Page<Book> searchBooks(BookSearchRequest request) {
+        Pageable pageable = request.toPageable();
+        return bookSearchIndex.search(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage(), pageable.getSort(), null)
+                .map(ids -> loadBookPage(ids, pageable))
+                .orElseGet(() -> bookRepository.findAll(BookSpecification.matchesSearch(request.getTitle(), request.getIsbn(), request.getPublisherName(), request.getAuthorName(), request.getCategoryName(), request.getPublicationYear(), request.getLanguage()), pageable));
+    }
+
+    @Override
+    public Optional<Author> findAuthor(UUID publicId) {
+        return authorRepository.findByPublicIdAndDeletedAtIsNull(publicId);
+    }
+
+    @Override
+    public Optional<Category> findCategory(UUID publicId) {
+        return categoryRepository.findByPublicIdAndDeletedAtIsNull(publicId);
+    }
+
+    @Override
+    public Optional<Publisher> findPublisher(UUID publicId) {
+        return publisherRepository.findByPublicIdAndDeletedAtIsNull(publicId);
+    }
+
+    @Override
+    public List<Publisher> loadPublishers(List<Book> books) {
+        Map<Long, Publisher> publishers = referenceDataCache.getPublishers(books.stream().map(Book::getPublisherId).collect(Collectors.toSet()));
+        return books.stream().map(book -> publishers.get(book.getPublisherId())).toList();
+    }
+
+    @Override
+    public List<List<Author>> loadAuthors(List<Book> books) {
+        Map<Long, List<Long>> authorIdsByBook = bookAuthorRepository.findByBookIdIn(bookIds(books)).stream()
+                .collect(Collectors.groupingBy(BookAuthor::getBookId, Collectors.mapping(BookAuthor::getAuthorId, Collectors.toList())));
+        Map<Long, Author> authors = referenceDataCache.getAuthors(flatten(authorIdsByBook.values()));
+        return books.stream().map(book -> resolve(authorIdsByBook.get(book.getId()), authors)).toList();
+    }
+
+    @Override
+    public List<List<Category>> loadCategories(List<Book> books) {
+        Map<Long, List<Long>> categoryIdsByBook = bookCategoryRepository.findByBookIdIn(bookIds(books)).stream()
+                .collect(Collectors.groupingBy(BookCategory::getBookId, Collectors.mapping(BookCategory::getCategoryId, Collectors.toList())));
+        Map<Long, Category> categories = referenceDataCache.getCategories(flatten(categoryIdsByBook.values()));
+        return books.stream().map(book -> resolve(categoryIdsByBook.get(book.getId()), categories)).toList();
+    }
+
+    @Override
+    public List<List<BookCopy>> loadCopies(List<Book> books) {
+        Map<Long, List<BookCopy>> copiesByBook = bookCopyRepository.findByBookIdInAndDeletedAtIsNull(bookIds(books)).stream()
+                .collect(Collectors.groupingBy(BookCopy::getBookId));
+        return books.stream().map(book -> copiesByBook.getOrDefault(book.getId(), List.of())).toList();
+    }
+
+    @Override
+    public List<BookAvailability> loadAvailability(List<Book> books) {
+        Map<Long, BookAvailability> availability = bookAvailabilityRepository.findAllById(bookIds(books)).stream()
+                .collect(Collectors.toMap(BookAvailability::getBookId, Function.identity()));
+        return books.stream().map(book -> availability.get(book.getId())).toList();
+    }
+
+    private Page<Book> loadBookPage(List<Long> orderedIds, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), orderedIds.size());
+        List<Long> pageIds = orderedIds.subList(fromIndex, toIndex);
+        Map<Long, Book> booksById = bookRepository.findAllById(pageIds).stream()
+                .filter(book -> !book.isDeleted())
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return new PageImpl<>(pageIds.stream().map(booksById::get).filter(Objects::nonNull).toList(), pageable, orderedIds.size());
+    }
+
+    private static List<Long> bookIds(List<Book> books) {
+        return books.stream().map(Book::getId).distinct().toList();
+    }
+
+    private static List<Long> flatten(Collection<List<Long>> ids) {
+        return ids.stream().flatMap(List::stream).distinct().toList();
+    }
+
+    // Drops references to entities that were deleted since the link was written
+    private static <T> List<T> resolve(List<Long> ids, Map<Long, T> entities) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+    }
+}
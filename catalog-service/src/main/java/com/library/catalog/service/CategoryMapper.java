@@ -5,6 +5,7 @@ import com.library.catalog.dto.request.UpdateCategoryRequest;
 import com.library.catalog.dto.response.CategoryResponse;
 import com.library.catalog.dto.response.PagedCategoryResponse;
 import com.library.catalog.repository.Category;
+import com.library.catalog.framework.pagination.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -82,4 +83,24 @@ public class CategoryMapper {
 
         return response;
     }
-}
\ No newline at end of file
+
+    public PagedCategoryResponse toPagedResponse(KeysetSlice<Category> slice) {
+        if (slice == null) {
+            return null;
+        }
+
+        PagedCategoryResponse response = new PagedCategoryResponse();
+        response.setContent(slice.getContent().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()));
+
+        // Cursor pages carry no totals, clients follow nextCursor until it is absent
+        response.setPageNumber(0);
+        response.setPageSize(slice.getSize());
+        response.setFirst(slice.isFirst());
+        response.setLast(!slice.isHasNext());
+        response.setNextCursor(slice.getNextCursor());
+
+        return response;
+    }
+}
@@ -6,6 +6,7 @@ import com.library.catalog.dto.request.UpdateCategoryRequest;
 import com.library.catalog.dto.response.CategoryResponse;
 import com.library.catalog.dto.response.PagedCategoryResponse;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CategoryService {
@@ -14,6 +15,8 @@ public interface CategoryService {
 
     CategoryResponse getCategoryById(UUID publicId);
 
+    Optional<String> getCategoryVersion(UUID publicId);
+
     PagedCategoryResponse getAllCategories(CategorySearchRequest request);
 
     CategoryResponse updateCategory(UUID publicId, UpdateCategoryRequest request);
@@ -6,15 +6,24 @@ import com.library.catalog.dto.request.UpdateCategoryRequest;
 import com.library.catalog.dto.response.CategoryResponse;
 import com.library.catalog.dto.response.PagedCategoryResponse;
 import com.library.catalog.framework.kafka.AuditService;
+import com.library.catalog.framework.pagination.KeysetSlice;
+import com.library.catalog.framework.cache.BookDetailCache;
+import com.library.catalog.framework.cache.ReferenceDataCache;
+import com.library.catalog.framework.cache.RelatedBooksCache;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.framework.web.EntityTags;
 import com.library.catalog.aop.EntityExceptionUtils;
 import com.library.catalog.aop.EntityNotFoundException;
 import com.library.catalog.repository.Category;
 import com.library.catalog.repository.CategoryRepository;
+import com.library.catalog.repository.KeysetSpecification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -25,6 +34,10 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final AuditService auditService;
     private final UnifiedAuthenticationService unifiedAuthenticationService;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookDetailCache bookDetailCache;
+    private final RelatedBooksCache relatedBooksCache;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -44,6 +57,8 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryMapper.toEntity(request);
         // Save to database
         categoryRepository.save(category);
+        bookSearchIndex.indexCategory(category);
+        referenceDataCache.putCategory(category);
         // Publish audit event for category creation
         auditService.publishCreateEvent("Category", category.getPublicId().toString(), category, unifiedAuthenticationService.getCurrentUserKeycloakId());
         // Convert to response DTO
@@ -54,15 +69,30 @@ public class CategoryServiceImpl implements CategoryService {
     @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(UUID publicId) {
 
-        Category category = categoryRepository.findByPublicIdAndDeletedAtIsNull(publicId)
+        Category category = ReplicaRoutingDataSource.onPrimary(() -> categoryRepository.findByPublicIdAndDeletedAtIsNull(publicId))
                 .orElseThrow(() -> EntityNotFoundException.forEntity("Category", publicId));
         return categoryMapper.toResponse(category);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getCategoryVersion(UUID publicId) {
+        // Tag and body are both read from the primary, so a lagging replica cannot pair a new tag with an old body
+        return ReplicaRoutingDataSource.onPrimary(() -> categoryRepository.findVersionByPublicId(publicId))
+                .map(EntityTags::fromTimestamp);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedCategoryResponse getAllCategories(CategorySearchRequest request) {
 
+        if (request.useCursor()) {
+            return categoryMapper.toPagedResponse(KeysetSlice.fetch(categoryRepository,
+                    KeysetSpecification.<Category>isNotDeleted()
+                            .and(KeysetSpecification.containsIgnoreCase("name", request.getName()))
+                            .and(KeysetSpecification.containsIgnoreCase("slug", request.getSlug())),
+                    request.keysetSortBy(), request.keysetDirection(), request.getAfter(), request.getSize(), Category::getId));
+        }
         if (StringUtils.hasText(request.getName()) || StringUtils.hasText(request.getSlug())) {
             return categoryMapper.toPagedResponse(
                     categoryRepository.findByCriteria(request.getName(), request.getSlug(), request.toPageable())
@@ -94,6 +124,10 @@ public class CategoryServiceImpl implements CategoryService {
         categoryMapper.updateEntity(existingCategory, request);
         // Save updated category
         Category updatedCategory = categoryRepository.save(existingCategory);
+        bookSearchIndex.indexCategory(updatedCategory);
+        referenceDataCache.putCategory(updatedCategory);
+        bookDetailCache.evictAll();
+        relatedBooksCache.evictAll();
         // Publish audit event with old and new values
         auditService.publishUpdateEvent("Category", updatedCategory.getPublicId().toString(), 
                 oldCategory, updatedCategory, unifiedAuthenticationService.getCurrentUserKeycloakId());
@@ -128,6 +162,10 @@ public class CategoryServiceImpl implements CategoryService {
         existingCategory.markAsDeleted();
         // Save updated entity
         categoryRepository.save(existingCategory);
+        bookSearchIndex.removeCategory(existingCategory.getId());
+        referenceDataCache.removeCategory(existingCategory.getId());
+        bookDetailCache.evictAll();
+        relatedBooksCache.evictAll();
         // Publish audit event for category deletion
         auditService.publishDeleteEvent("Category", existingCategory.getPublicId().toString(), oldCategory, unifiedAuthenticationService.getCurrentUserKeycloakId());
     }
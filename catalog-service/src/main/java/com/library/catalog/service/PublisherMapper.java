@@ -6,6 +6,7 @@ import com.library.catalog.dto.response.PagedPublisherResponse;
 import com.library.catalog.dto.response.PublisherResponse;
 import com.library.catalog.aop.InvalidUuidException;
 import com.library.catalog.repository.Publisher;
+import com.library.catalog.framework.pagination.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -115,4 +116,24 @@ public class PublisherMapper {
 
         return response;
     }
-}
\ No newline at end of file
+
+    public PagedPublisherResponse toPagedResponse(KeysetSlice<Publisher> slice) {
+        if (slice == null) {
+            return null;
+        }
+
+        PagedPublisherResponse response = new PagedPublisherResponse();
+        response.setContent(slice.getContent().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()));
+
+        // Cursor pages carry no totals, clients follow nextCursor until it is absent
+        response.setPageNumber(0);
+        response.setPageSize(slice.getSize());
+        response.setFirst(slice.isFirst());
+        response.setLast(!slice.isHasNext());
+        response.setNextCursor(slice.getNextCursor());
+
+        return response;
+    }
+}
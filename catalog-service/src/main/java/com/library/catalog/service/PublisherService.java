@@ -6,6 +6,7 @@ import com.library.catalog.dto.request.UpdatePublisherRequest;
 import com.library.catalog.dto.response.PagedPublisherResponse;
 import com.library.catalog.dto.response.PublisherResponse;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PublisherService {
@@ -14,6 +15,8 @@ public interface PublisherService {
 
     PublisherResponse getPublisherByPublicId(UUID publicId);
 
+    Optional<String> getPublisherVersion(UUID publicId);
+
     PagedPublisherResponse getAllPublishers(PublisherSearchRequest request);
 
     PublisherResponse updatePublisher(UUID publicId, UpdatePublisherRequest request);
@@ -6,8 +6,16 @@ import com.library.catalog.dto.request.UpdatePublisherRequest;
 import com.library.catalog.dto.response.PagedPublisherResponse;
 import com.library.catalog.dto.response.PublisherResponse;
 import com.library.catalog.framework.kafka.AuditService;
+import com.library.catalog.framework.pagination.KeysetSlice;
+import com.library.catalog.framework.cache.BookDetailCache;
+import com.library.catalog.framework.cache.ReferenceDataCache;
+import com.library.catalog.framework.cache.RelatedBooksCache;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.framework.secutiry.ReplicaRoutingDataSource;
+import com.library.catalog.framework.web.EntityTags;
 import com.library.catalog.aop.EntityExceptionUtils;
 import com.library.catalog.aop.EntityNotFoundException;
+import com.library.catalog.repository.KeysetSpecification;
 import com.library.catalog.repository.Publisher;
 import com.library.catalog.repository.PublisherRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -27,6 +36,10 @@ public class PublisherServiceImpl implements PublisherService {
     private final PublisherMapper publisherMapper;
     private final AuditService auditService;
     private final UnifiedAuthenticationService unifiedAuthenticationService;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookDetailCache bookDetailCache;
+    private final RelatedBooksCache relatedBooksCache;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -41,6 +54,8 @@ public class PublisherServiceImpl implements PublisherService {
         Publisher publisher = publisherMapper.toEntity(request);
         // Save to database
         Publisher savedPublisher = publisherRepository.save(publisher);
+        bookSearchIndex.indexPublisher(savedPublisher);
+        referenceDataCache.putPublisher(savedPublisher);
 
         // Publish audit event for publisher creation
         auditService.publishCreateEvent("Publisher", savedPublisher.getPublicId().toString(), savedPublisher, unifiedAuthenticationService.getCurrentUserKeycloakId());
@@ -53,16 +68,29 @@ public class PublisherServiceImpl implements PublisherService {
     @Transactional(readOnly = true)
     public PublisherResponse getPublisherByPublicId(UUID publicId) {
 
-        Publisher publisher = publisherRepository.findByPublicIdAndDeletedAtIsNull(publicId)
+        Publisher publisher = ReplicaRoutingDataSource.onPrimary(() -> publisherRepository.findByPublicIdAndDeletedAtIsNull(publicId))
                 .orElseThrow(() -> EntityNotFoundException.forEntity("Publisher", publicId));
 
         return publisherMapper.toResponse(publisher);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getPublisherVersion(UUID publicId) {
+        // Tag and body are both read from the primary, so a lagging replica cannot pair a new tag with an old body
+        return ReplicaRoutingDataSource.onPrimary(() -> publisherRepository.findVersionByPublicId(publicId))
+                .map(EntityTags::fromTimestamp);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedPublisherResponse getAllPublishers(PublisherSearchRequest request) {
 
+        if (request.useCursor()) {
+            return publisherMapper.toPagedResponse(KeysetSlice.fetch(publisherRepository,
+                    KeysetSpecification.<Publisher>isNotDeleted().and(KeysetSpecification.containsIgnoreCase("name", request.getName())),
+                    request.keysetSortBy(), request.keysetDirection(), request.getAfter(), request.getSize(), Publisher::getId));
+        }
         // Create pageable object
         Pageable pageable = request.toPageable();
         Page<Publisher> publisherPage;
@@ -95,6 +123,10 @@ public class PublisherServiceImpl implements PublisherService {
         publisherMapper.updateEntity(existingPublisher, request);
         // Save updated publisher
         Publisher updatedPublisher = publisherRepository.save(existingPublisher);
+        bookSearchIndex.indexPublisher(updatedPublisher);
+        referenceDataCache.putPublisher(updatedPublisher);
+        bookDetailCache.evictAll();
+        relatedBooksCache.evictAll();
         // Publish audit event with old and new values
         auditService.publishUpdateEvent("Publisher", updatedPublisher.getPublicId().toString(), 
                 oldPublisher, updatedPublisher, unifiedAuthenticationService.getCurrentUserKeycloakId());
@@ -115,6 +147,10 @@ public class PublisherServiceImpl implements PublisherService {
         existingPublisher.setUpdatedBy(unifiedAuthenticationService.getCurrentUserKeycloakId());
         // Save updated entity
         publisherRepository.save(existingPublisher);
+        bookSearchIndex.removePublisher(existingPublisher.getId());
+        referenceDataCache.removePublisher(existingPublisher.getId());
+        bookDetailCache.evictAll();
+        relatedBooksCache.evictAll();
         // Publish audit event for publisher deletion
         auditService.publishDeleteEvent("Publisher", existingPublisher.getPublicId().toString(), oldPublisher, unifiedAuthenticationService.getCurrentUserKeycloakId());
     }
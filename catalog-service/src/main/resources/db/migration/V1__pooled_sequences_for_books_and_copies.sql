@@ -0,0 +1,10 @@
+-- Book and BookCopy ids move from IDENTITY to a pooled sequence (allocationSize = 50) so that
+-- Hibernate can assign ids in memory and batch the INSERTs. The pooled optimizer requires the
+-- sequence increment to match the allocation size, and the next value must leave a full block
+-- above the current maximum id.
+
+ALTER SEQUENCE books_id_seq INCREMENT BY 50;
+SELECT setval('books_id_seq', (SELECT COALESCE(MAX(id), 0) FROM books) + 50);
+
+ALTER SEQUENCE book_copies_id_seq INCREMENT BY 50;
+SELECT setval('book_copies_id_seq', (SELECT COALESCE(MAX(id), 0) FROM book_copies) + 50);
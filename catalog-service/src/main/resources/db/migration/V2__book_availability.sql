@@ -0,0 +1,24 @@
+-- Per-book copy counters, maintained by catalog-service in the same transaction as every copy write
+CREATE TABLE IF NOT EXISTS book_availability (
+    book_id           BIGINT PRIMARY KEY REFERENCES books (id),
+    total_copies      INTEGER   NOT NULL DEFAULT 0,
+    available_copies  INTEGER   NOT NULL DEFAULT 0,
+    borrowed_copies   INTEGER   NOT NULL DEFAULT 0,
+    reserved_copies   INTEGER   NOT NULL DEFAULT 0,
+    borrowable_copies INTEGER   NOT NULL DEFAULT 0,
+    updated_at        TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Backfill from the existing copies
+INSERT INTO book_availability (book_id, total_copies, available_copies, borrowed_copies, reserved_copies, borrowable_copies, updated_at)
+SELECT b.id,
+       COUNT(c.id),
+       COUNT(c.id) FILTER (WHERE c.status = 'AVAILABLE'),
+       COUNT(c.id) FILTER (WHERE c.status = 'BORROWED'),
+       COUNT(c.id) FILTER (WHERE c.status = 'RESERVED'),
+       COUNT(c.id) FILTER (WHERE c.status = 'AVAILABLE' AND c.condition <> 'DAMAGED'),
+       CURRENT_TIMESTAMP
+FROM books b
+         LEFT JOIN book_copies c ON c.book_id = b.id AND c.deleted_at IS NULL
+GROUP BY b.id
+ON CONFLICT (book_id) DO NOTHING;
@@ -0,0 +1,7 @@
+-- Optimistic locking for book copies; status transitions bump it in their conditional UPDATE
+ALTER TABLE book_copies ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Lets a claim find the first free copy of a book without scanning its borrowed ones
+CREATE INDEX IF NOT EXISTS idx_book_copies_available
+    ON book_copies (book_id, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
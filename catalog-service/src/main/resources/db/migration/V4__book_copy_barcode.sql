@@ -0,0 +1,11 @@
+-- Barcodes were derived from the copy id in every response; persist them so the desk can scan by barcode.
+-- The backfill uses the same format as the application ("GB" + id padded to six digits).
+ALTER TABLE book_copies ADD COLUMN IF NOT EXISTS barcode VARCHAR(32);
+
+UPDATE book_copies
+SET barcode = 'GB' || CASE WHEN id < 1000000 THEN lpad(id::text, 6, '0') ELSE id::text END
+WHERE barcode IS NULL;
+
+ALTER TABLE book_copies ALTER COLUMN barcode SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_book_copies_barcode ON book_copies (barcode);
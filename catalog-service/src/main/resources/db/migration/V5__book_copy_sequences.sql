@@ -0,0 +1,12 @@
+-- Next free "C<n>" copy number per book, so allocation is a single-row UPDATE instead of a MAX() over the copies
+CREATE TABLE IF NOT EXISTS book_copy_sequences (
+    book_id     BIGINT  PRIMARY KEY REFERENCES books (id),
+    next_number INTEGER NOT NULL
+);
+
+INSERT INTO book_copy_sequences (book_id, next_number)
+SELECT c.book_id, MAX(CAST(SUBSTRING(c.copy_number FROM 2) AS INTEGER)) + 1
+FROM book_copies c
+WHERE c.copy_number ~ '^C[0-9]{1,9}$'
+GROUP BY c.book_id
+ON CONFLICT (book_id) DO NOTHING;
@@ -0,0 +1,6 @@
+-- Author and category book listings seek by owner and walk book ids in order from the index alone
+CREATE INDEX IF NOT EXISTS idx_book_authors_author_book
+    ON book_authors (author_id, book_id);
+
+CREATE INDEX IF NOT EXISTS idx_book_categories_category_book
+    ON book_categories (category_id, book_id);
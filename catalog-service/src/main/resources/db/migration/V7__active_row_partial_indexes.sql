@@ -0,0 +1,54 @@
+-- Almost every catalog read filters deleted_at IS NULL; partial indexes hold only the active rows,
+-- so they stay small and soft-deleted rows never reach the planner's candidate set.
+
+-- Books: catalog pages and the search index load walk active books in id order
+CREATE INDEX IF NOT EXISTS idx_books_active_id
+    ON books (id)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_books_active_publisher
+    ON books (publisher_id)
+    WHERE deleted_at IS NULL;
+
+-- Keyset search orders, each paired with the id tie-breaker
+CREATE INDEX IF NOT EXISTS idx_books_active_title_id
+    ON books (title, id)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_books_active_publication_year_id
+    ON books (publication_year, id)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_books_active_created_at_id
+    ON books (created_at, id)
+    WHERE deleted_at IS NULL;
+
+-- Copies: per-book listings and copy number checks, status and shelf listings
+CREATE INDEX IF NOT EXISTS idx_book_copies_active_book_copy_number
+    ON book_copies (book_id, copy_number)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_book_copies_active_status_id
+    ON book_copies (status, id)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_book_copies_active_location
+    ON book_copies (location)
+    WHERE deleted_at IS NULL;
+
+-- Archival scans for rows soft-deleted before the retention cutoff
+CREATE INDEX IF NOT EXISTS idx_books_deleted_at
+    ON books (deleted_at)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_book_copies_deleted_at
+    ON book_copies (deleted_at)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_authors_deleted_at
+    ON authors (deleted_at)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_categories_deleted_at
+    ON categories (deleted_at)
+    WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,29 @@
+-- Cold storage for rows soft-deleted longer than catalog.archive.retention. Each archive table mirrors its
+-- source column for column (the archival job copies rows with SELECT *), followed by archived_at.
+-- A migration that adds a column to a source table must add it to the archive table as well.
+-- No foreign keys or unique constraints are carried over, archived rows are history only.
+
+CREATE TABLE IF NOT EXISTS books_archive (LIKE books);
+ALTER TABLE books_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS book_copies_archive (LIKE book_copies);
+ALTER TABLE book_copies_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS book_authors_archive (LIKE book_authors);
+ALTER TABLE book_authors_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS book_categories_archive (LIKE book_categories);
+ALTER TABLE book_categories_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS authors_archive (LIKE authors);
+ALTER TABLE authors_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS categories_archive (LIKE categories);
+ALTER TABLE categories_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Archived rows are looked up by their former ids (e.g. when a loan references an archived copy)
+CREATE INDEX IF NOT EXISTS idx_books_archive_id ON books_archive (id);
+CREATE INDEX IF NOT EXISTS idx_book_copies_archive_id ON book_copies_archive (id);
+CREATE INDEX IF NOT EXISTS idx_book_copies_archive_book_id ON book_copies_archive (book_id);
+CREATE INDEX IF NOT EXISTS idx_authors_archive_id ON authors_archive (id);
+CREATE INDEX IF NOT EXISTS idx_categories_archive_id ON categories_archive (id);
@@ -0,0 +1,113 @@
+package com.library.catalog.framework.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.catalog.repository.OutboxEvent;
+import com.library.catalog.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 1);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofMillis(50));
+        when(outboxEventRepository.tryLockRelay()).thenReturn(true);
+        when(outboxEventRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void sendsEventsInIdOrderAndDeletesThem() {
+        List<OutboxEvent> events = List.of(event(1), event(2), event(3));
+        when(outboxEventRepository.lockNextBatch(anyInt())).thenReturn(events);
+        when(kafkaTemplate.send(eq("topic"), any(), any())).thenReturn(acknowledged());
+
+        relay.relay();
+
+        InOrder order = inOrder(kafkaTemplate);
+        order.verify(kafkaTemplate).send(eq("topic"), eq("key-1"), any());
+        order.verify(kafkaTemplate).send(eq("topic"), eq("key-2"), any());
+        order.verify(kafkaTemplate).send(eq("topic"), eq("key-3"), any());
+        verify(outboxEventRepository).deleteAllInBatch(events);
+    }
+
+    @Test
+    void failedSendKeepsTheEventAndTheLaterOnesOfItsKey() {
+        List<OutboxEvent> events = List.of(event(1, "a"), event(2, "b"), event(3, "a"));
+        when(outboxEventRepository.lockNextBatch(anyInt())).thenReturn(events);
+        when(kafkaTemplate.send(eq("topic"), eq("a"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")), acknowledged());
+        when(kafkaTemplate.send(eq("topic"), eq("b"), any())).thenReturn(acknowledged());
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllInBatch(List.of(events.get(1)));
+        assertThat(events.get(0).getAttempts()).isEqualTo(1);
+        assertThat(events.get(0).getLastError()).isEqualTo("broker down");
+        assertThat(events.get(2).getAttempts()).isZero();
+    }
+
+    @Test
+    void handsTheWholeBatchToTheProducerBeforeWaiting() {
+        List<OutboxEvent> events = List.of(event(1), event(2));
+        when(outboxEventRepository.lockNextBatch(anyInt())).thenReturn(events);
+        // Never acknowledged, so the send times out
+        when(kafkaTemplate.send(eq("topic"), eq("key-1"), any())).thenReturn(new CompletableFuture<>());
+        when(kafkaTemplate.send(eq("topic"), eq("key-2"), any())).thenReturn(acknowledged());
+
+        relay.relay();
+
+        verify(kafkaTemplate).send(eq("topic"), eq("key-2"), any());
+        verify(outboxEventRepository).deleteAllInBatch(List.of(events.get(1)));
+        assertThat(events.get(0).getAttempts()).isEqualTo(1);
+    }
+
+    private static OutboxEvent event(long id) {
+        return event(id, "key-" + id);
+    }
+
+    private static OutboxEvent event(long id, String key) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setTopic("topic");
+        event.setMessageKey(key);
+        event.setPayload("{\"id\":" + id + "}");
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
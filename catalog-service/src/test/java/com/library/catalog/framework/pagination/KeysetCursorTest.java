@@ -0,0 +1,102 @@
+package com.library.catalog.framework.pagination;
+
+import com.library.catalog.aop.EntityValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsTypedSortValues() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+        KeysetCursor cursor = KeysetCursor.decode(
+                KeysetCursor.of("createdAt", Sort.Direction.DESC, createdAt, 42L).encode(),
+                "createdAt", Sort.Direction.DESC);
+
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(cursor.isDescending()).isTrue();
+        assertThat(cursor.isNullValue()).isFalse();
+        assertThat(cursor.valueAs(LocalDateTime.class)).isEqualTo(createdAt);
+    }
+
+    @Test
+    void keepsNullAndEmptySortValuesApart() {
+        KeysetCursor nullValue = KeysetCursor.decode(
+                KeysetCursor.of("title", Sort.Direction.ASC, null, 7L).encode(), "title", Sort.Direction.ASC);
+        KeysetCursor emptyValue = KeysetCursor.decode(
+                KeysetCursor.of("title", Sort.Direction.ASC, "", 7L).encode(), "title", Sort.Direction.ASC);
+
+        assertThat(nullValue.isNullValue()).isTrue();
+        assertThat(nullValue.valueAs(Short.class)).isNull();
+        assertThat(emptyValue.isNullValue()).isFalse();
+        assertThat(emptyValue.valueAs(String.class)).isEmpty();
+    }
+
+    @Test
+    void keepsSeparatorsInsideValues() {
+        String title = "Line one\nLine two";
+
+        KeysetCursor cursor = KeysetCursor.decode(
+                KeysetCursor.of("title", Sort.Direction.ASC, title, 3L).encode(), "title", Sort.Direction.ASC);
+
+        assertThat(cursor.valueAs(String.class)).isEqualTo(title);
+    }
+
+    @Test
+    void nextPointsAtTheLastRowOnlyWhenMoreRowsExist() {
+        List<Row> rows = List.of(new Row(1L, (short) 1999), new Row(2L, null));
+
+        String token = KeysetCursor.next(rows, true, "publicationYear", Sort.Direction.ASC, Row::getId);
+        KeysetCursor cursor = KeysetCursor.decode(token, "publicationYear", Sort.Direction.ASC);
+
+        assertThat(cursor.getId()).isEqualTo(2L);
+        assertThat(cursor.isNullValue()).isTrue();
+        assertThat(KeysetCursor.next(rows, false, "publicationYear", Sort.Direction.ASC, Row::getId)).isNull();
+    }
+
+    @Test
+    void rejectsCursorsIssuedForAnotherSortOrder() {
+        String token = KeysetCursor.of("title", Sort.Direction.ASC, "A", 1L).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "title", Sort.Direction.DESC))
+                .isInstanceOf(EntityValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "isbn", Sort.Direction.ASC))
+                .isInstanceOf(EntityValidationException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor", "title", Sort.Direction.ASC))
+                .isInstanceOf(EntityValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.of("publicationYear", Sort.Direction.ASC, "abc", 1L)
+                .valueAs(Short.class))
+                .isInstanceOf(EntityValidationException.class);
+    }
+
+    public static class Row {
+
+        private final Long id;
+
+        private final Short publicationYear;
+
+        Row(Long id, Short publicationYear) {
+            this.id = id;
+            this.publicationYear = publicationYear;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Short getPublicationYear() {
+            return publicationYear;
+        }
+    }
+}
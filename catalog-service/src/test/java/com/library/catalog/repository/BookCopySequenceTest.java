@@ -0,0 +1,29 @@
+package com.library.catalog.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookCopySequenceTest {
+
+    @Test
+    void formatsNumbersWithAtLeastThreeDigits() {
+        assertThat(BookCopySequence.formatCopyNumber(1)).isEqualTo("C001");
+        assertThat(BookCopySequence.formatCopyNumber(42)).isEqualTo("C042");
+        assertThat(BookCopySequence.formatCopyNumber(1234)).isEqualTo("C1234");
+    }
+
+    @Test
+    void highestGeneratedNumberTakesTheLargestCNumber() {
+        assertThat(BookCopySequence.highestGeneratedNumber(List.of("C001", "C010", "C002"))).isEqualTo(10);
+    }
+
+    @Test
+    void highestGeneratedNumberIgnoresOtherFormats() {
+        assertThat(BookCopySequence.highestGeneratedNumber(List.of("REF-7", "c050", "C", "C12a", "C0000000001")))
+                .isZero();
+        assertThat(BookCopySequence.highestGeneratedNumber(List.of())).isZero();
+    }
+}
@@ -0,0 +1,167 @@
+package com.library.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.catalog.dto.request.CreateBookWithCopiesRequest;
+import com.library.catalog.framework.cache.BookDetailCache;
+import com.library.catalog.framework.cache.ReferenceDataCache;
+import com.library.catalog.framework.cache.RelatedBooksCache;
+import com.library.catalog.framework.kafka.AuditService;
+import com.library.catalog.framework.search.BookSearchIndex;
+import com.library.catalog.framework.search.BookSuggestIndex;
+import com.library.catalog.framework.secutiry.DatabaseConfig;
+import com.library.catalog.repository.Author;
+import com.library.catalog.repository.BookAvailabilityRepository;
+import com.library.catalog.repository.BookCopySequence;
+import com.library.catalog.repository.BookCopySequenceRepository;
+import com.library.catalog.repository.BookFacetQueries;
+import com.library.catalog.repository.Category;
+import com.library.catalog.repository.Publisher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Creating a book must cost the same handful of statements whatever the number of copies: the copy numbers come
+ * from one counter update and the copies are inserted in JDBC batches. Runs against H2, so the Postgres-only
+ * counter and availability queries are mocked and not counted.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=20",
+        "spring.jpa.properties.hibernate.order_inserts=true"})
+@Import({BookServiceImpl.class, DatabaseConfig.class})
+class BookCreateStatementCountTest {
+
+    @TestConfiguration
+    static class AuditorConfig {
+
+        @Bean
+        AuditorAware<String> auditorAwareImpl() {
+            return () -> Optional.of("test");
+        }
+    }
+
+    @MockitoBean
+    private BookCopySequenceRepository bookCopySequenceRepository;
+    @MockitoBean
+    private BookAvailabilityRepository bookAvailabilityRepository;
+    @MockitoBean
+    private BookMapper bookMapper;
+    @MockitoBean
+    private AuditService auditService;
+    @MockitoBean
+    private UnifiedAuthenticationService unifiedAuthenticationService;
+    @MockitoBean
+    private BookSearchIndex bookSearchIndex;
+    @MockitoBean
+    private BookSuggestIndex bookSuggestIndex;
+    @MockitoBean
+    private BookFacetQueries bookFacetQueries;
+    @MockitoBean
+    private ObjectMapper objectMapper;
+    @MockitoBean
+    private BookDetailCache bookDetailCache;
+    @MockitoBean
+    private ReferenceDataCache referenceDataCache;
+    @MockitoBean
+    private RelatedBooksCache relatedBooksCache;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long authorId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Author author = new Author();
+        author.setName("Author");
+        entityManager.persist(author);
+        authorId = author.getId();
+
+        Category category = new Category();
+        category.setName("Category");
+        category.setSlug("category");
+        entityManager.persist(category);
+        categoryId = category.getId();
+
+        Publisher publisher = new Publisher();
+        publisher.setId(1L);
+        publisher.setName("Publisher");
+        when(referenceDataCache.getPublishers(any())).thenReturn(Map.of(1L, publisher));
+
+        when(bookCopySequenceRepository.reserveCopyNumbers(any(), anyInt(), anyInt())).thenAnswer(invocation ->
+                IntStream.rangeClosed(1, invocation.<Integer>getArgument(1))
+                        .mapToObj(BookCopySequence::formatCopyNumber)
+                        .toList());
+
+        entityManager.flush();
+        // Fills the pooled id sequences, so the measured calls only fetch ids again when a pool runs out
+        statementsFor("9780000000000", 1);
+    }
+
+    @Test
+    void creatingABookWithFiftyCopiesTakesAConstantNumberOfStatements() {
+        long oneCopy = statementsFor("9780000000001", 1);
+        long fiftyCopies = statementsFor("9780000000002", 50);
+
+        // ISBN check, author and category lookups, then one INSERT per table and JDBC batch of 20 copies
+        assertThat(fiftyCopies).isLessThanOrEqualTo(12);
+        // Two more copy batches and at most one more id sequence fetch
+        assertThat(fiftyCopies - oneCopy).isLessThanOrEqualTo(3);
+    }
+
+    private long statementsFor(String isbn, int copies) {
+        statistics.clear();
+        bookService.createBookWithCopies(request(isbn, copies));
+        entityManager.flush();
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private CreateBookWithCopiesRequest request(String isbn, int copies) {
+        List<CreateBookWithCopiesRequest.BookCopyRequest> copyRequests = new ArrayList<>(copies);
+        for (int i = 0; i < copies; i++) {
+            copyRequests.add(new CreateBookWithCopiesRequest.BookCopyRequest(null, "good", "A-1", null, null));
+        }
+        CreateBookWithCopiesRequest request = new CreateBookWithCopiesRequest();
+        request.setTitle("Title " + isbn);
+        request.setIsbn(isbn);
+        request.setAuthorIds(List.of(authorId));
+        request.setCategoryIds(List.of(categoryId));
+        request.setPublisherId(1L);
+        request.setPublicationYear((short) 2024);
+        request.setCopies(copyRequests);
+        return request;
+    }
+}
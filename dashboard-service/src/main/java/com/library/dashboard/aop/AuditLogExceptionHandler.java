@@ -33,6 +33,23 @@ public class AuditLogExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(InvalidAuditLogRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(
+            InvalidAuditLogRequestException ex, WebRequest request) {
+
+        log.warn("Invalid audit log request: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .code("INVALID_REQUEST")
+                .message(ex.getMessage())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .timestamp(LocalDateTime.now())
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex, WebRequest request) {
@@ -0,0 +1,12 @@
+package com.library.dashboard.aop;
+
+public class InvalidAuditLogRequestException extends AuditLogException {
+
+    public InvalidAuditLogRequestException(String message) {
+        super(message);
+    }
+
+    public static InvalidAuditLogRequestException invalidCursor(String reason) {
+        return new InvalidAuditLogRequestException("Invalid pagination cursor: " + reason);
+    }
+}
@@ -2,23 +2,33 @@ package com.library.dashboard.controller;
 
 import com.library.dashboard.service.AuditLogService;
 import com.library.dashboard.service.AuditLogMapper;
+import com.library.dashboard.dto.request.AuditLogExportFormat;
 import com.library.dashboard.dto.request.AuditLogSearchRequest;
 import com.library.dashboard.dto.request.AuditLogSearchCriteria;
+import com.library.dashboard.dto.request.AuditLogStatsRequest;
 import com.library.dashboard.dto.response.AuditLogResponse;
+import com.library.dashboard.dto.response.AuditLogStatsResponse;
 import com.library.dashboard.dto.response.PagedAuditLogResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @RestController
@@ -37,8 +47,16 @@ public class AuditLogController {
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "timestamp") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) @Size(max = 512) String after,
+            @RequestParam(defaultValue = "offset") @Pattern(regexp = "^(offset|cursor)$") String pagination,
             HttpServletRequest request) {
 
+        if ("cursor".equals(pagination) || StringUtils.hasText(after)) {
+            PagedAuditLogResponse response = auditLogService.searchByCursor(null, sortBy,
+                    Sort.Direction.fromString(sortDir), after, size);
+            return ResponseEntity.ok(response);
+        }
+
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
@@ -55,14 +73,41 @@ public class AuditLogController {
             @RequestParam(defaultValue = "desc") String sortDir,
             HttpServletRequest request) {
 
+        AuditLogSearchCriteria criteria = auditLogMapper.toCriteria(searchRequest);
+        if (searchRequest.useCursor()) {
+            PagedAuditLogResponse response = auditLogService.searchByCursor(criteria, sortBy,
+                    Sort.Direction.fromString(sortDir), searchRequest.getAfter(), size);
+            return ResponseEntity.ok(response);
+        }
+
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        AuditLogSearchCriteria criteria = auditLogMapper.toCriteria(searchRequest);
         PagedAuditLogResponse response = auditLogService.search(criteria, pageable);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    public void export(
+            @Valid AuditLogSearchRequest searchRequest,
+            @RequestParam(defaultValue = "NDJSON") AuditLogExportFormat format,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"audit-logs." + format.getExtension() + "\"");
+        AuditLogSearchCriteria criteria = auditLogMapper.toCriteria(searchRequest);
+        auditLogService.exportAuditLogs(criteria, format, response.getOutputStream());
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<AuditLogStatsResponse> getStats(@Valid AuditLogStatsRequest statsRequest) {
+
+        AuditLogStatsResponse response = auditLogService.getStats(statsRequest);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AuditLogResponse> findById(@PathVariable UUID id, HttpServletRequest request) {
 
@@ -5,7 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.StringUtils;
 
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
@@ -33,4 +35,14 @@ public class AuditLogSearchRequest {
 
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime endDate;
+
+    @Size(max = 512, message = "Cursor must not exceed 512 characters")
+    private String after;
+
+    @Pattern(regexp = "^(offset|cursor)$", message = "Pagination mode must be either 'offset' or 'cursor'")
+    private String pagination = "offset";
+
+    public boolean useCursor() {
+        return "cursor".equalsIgnoreCase(pagination) || StringUtils.hasText(after);
+    }
 }
\ No newline at end of file
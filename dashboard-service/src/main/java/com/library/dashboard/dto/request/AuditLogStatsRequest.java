@@ -0,0 +1,59 @@
+package com.library.dashboard.dto.request;
+
+import com.library.dashboard.repository.ActionType;
+import com.library.dashboard.repository.RollupDimension;
+import com.library.dashboard.repository.RollupGranularity;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogStatsRequest {
+
+    public static final int MAX_BUCKETS = 1440;
+
+    @NotNull(message = "Granularity is required")
+    private RollupGranularity granularity = RollupGranularity.HOUR;
+
+    @NotNull(message = "Start of the range is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @NotNull(message = "End of the range is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private RollupDimension groupBy;
+
+    @Size(max = 100, message = "Service name must not exceed 100 characters")
+    private String serviceName;
+
+    @Size(max = 100, message = "Entity name must not exceed 100 characters")
+    private String entityName;
+
+    private ActionType actionType;
+
+    @Size(max = 36, message = "User ID must not exceed 36 characters")
+    private String userId;
+
+    @AssertTrue(message = "Range must end after it starts and span at most " + MAX_BUCKETS + " buckets")
+    public boolean isRangeValid() {
+        if (granularity == null || from == null || to == null) {
+            return true;
+        }
+        if (!to.isAfter(from)) {
+            return false;
+        }
+        long buckets = Duration.between(granularity.bucketOf(from), to).dividedBy(granularity.getBucketSize()) + 1;
+        return buckets <= MAX_BUCKETS;
+    }
+}
@@ -0,0 +1,18 @@
+package com.library.dashboard.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogStatsBucket {
+
+    private LocalDateTime bucketStart;
+    // Value of the groupBy dimension, null when the series is not broken down
+    private String group;
+    private long count;
+}
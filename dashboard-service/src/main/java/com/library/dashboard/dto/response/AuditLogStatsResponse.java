@@ -0,0 +1,22 @@
+package com.library.dashboard.dto.response;
+
+import com.library.dashboard.repository.RollupDimension;
+import com.library.dashboard.repository.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogStatsResponse {
+
+    private RollupGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private RollupDimension groupBy;
+    private List<AuditLogStatsBucket> buckets;
+}
@@ -1,5 +1,6 @@
 package com.library.dashboard.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,14 +14,16 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedAuditLogResponse {
 
     // Getters and Setters
     private List<AuditLogResponse> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements; // Not computed in cursor mode
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    private String nextCursor;
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.library.dashboard.framework.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.RetryListener;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+
+/**
+ * Error handling for the audit listener. The default handler retries a failed batch ten times and then skips it,
+ * committing its offsets, so a database outage of a few seconds would lose audit events. A failing batch is
+ * retried here with exponential backoff until it is stored; the consumer keeps its partitions and polls nothing
+ * else meanwhile. Invalid events never reach this point, the listener drops them itself.
+ */
+@Slf4j
+@Configuration
+public class AuditConsumerConfig {
+
+    @Bean
+    public CommonErrorHandler auditErrorHandler(
+            @Value("${audit.kafka.retry.initial-interval:PT1S}") Duration initialInterval,
+            @Value("${audit.kafka.retry.max-interval:PT1M}") Duration maxInterval) {
+        ExponentialBackOff backOff = new ExponentialBackOff(initialInterval.toMillis(), 2.0);
+        backOff.setMaxInterval(maxInterval.toMillis());
+        backOff.setMaxElapsedTime(Long.MAX_VALUE);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(backOff);
+        errorHandler.setRetryListeners(new RetryListener() {
+
+            @Override
+            public void failedDelivery(ConsumerRecord<?, ?> record, Exception ex, int deliveryAttempt) {
+                log.warn("Audit event at {}-{}@{} failed (attempt {}), retrying: {}",
+                        record.topic(), record.partition(), record.offset(), deliveryAttempt, ex.getMessage());
+            }
+
+            @Override
+            public void failedDelivery(ConsumerRecords<?, ?> records, Exception ex, int deliveryAttempt) {
+                log.warn("Audit batch of {} events failed (attempt {}), retrying: {}",
+                        records.count(), deliveryAttempt, ex.getMessage());
+            }
+        });
+        return errorHandler;
+    }
+}
@@ -1,27 +1,110 @@
 package com.library.dashboard.framework.kafka;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.library.dashboard.service.AuditLogService;
-import com.library.dashboard.dto.response.AuditLogResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ingests audit events a poll at a time: the whole batch is written in one transaction with batched inserts,
+ * and its offsets are committed only after that transaction has committed. A failure other than bad data
+ * leaves the batch unacknowledged, and {@link AuditConsumerConfig} retries it until it is stored. Rows are keyed
+ * by the event id, so events delivered again are stored once.
+ * <p>
+ * Partition lag is reported by the Kafka client metrics ({@code kafka.consumer.fetch.manager.records.lag.max}).
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class AuditEventConsumer {
 
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper;
+    private final Counter storedEvents;
+    private final Counter rejectedEvents;
+    private final DistributionSummary batchSize;
+    private final Timer batchLatency;
+    private final Timer ingestDelay;
+
+    public AuditEventConsumer(AuditLogService auditLogService, MeterRegistry meterRegistry) {
+        this.auditLogService = auditLogService;
+        this.storedEvents = Counter.builder("audit.ingest.events")
+                .description("Audit events written to audit_logs")
+                .tag("result", "stored")
+                .register(meterRegistry);
+        this.rejectedEvents = Counter.builder("audit.ingest.events")
+                .description("Audit events dropped as invalid")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("audit.ingest.batch.size")
+                .description("Audit events per consumed batch")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("audit.ingest.batch")
+                .description("Time to store one consumed batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.ingestDelay = Timer.builder("audit.ingest.delay")
+                .description("Time from an audit event being raised to being stored")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
 
-    @SneakyThrows
     @KafkaListener(
             topics = "#{T(java.util.Arrays).asList('${audit.kafka.topics}'.split(','))}",
+            batch = "true",
             properties = {"spring.json.value.default.type=com.library.dashboard.framework.kafka.AuditEventMessage"})
-    public void handleAuditEvent(AuditEventMessage eventMessage) {
-        AuditLogResponse savedAuditLog = auditLogService.createAuditLog(eventMessage);
+    public void handleAuditEvents(List<AuditEventMessage> eventMessages, Acknowledgment acknowledgment) {
+        List<AuditEventMessage> valid = new ArrayList<>(eventMessages.size());
+        for (AuditEventMessage eventMessage : eventMessages) {
+            if (eventMessage != null && eventMessage.isValid()) {
+                valid.add(eventMessage);
+            } else {
+                rejectedEvents.increment();
+                log.warn("Skipping invalid audit event: {}", eventMessage);
+            }
+        }
+
+        batchSize.record(valid.size());
+        Timer.Sample sample = Timer.start();
+        int stored = store(valid);
+        sample.stop(batchLatency);
+        storedEvents.increment(stored);
+
+        LocalDateTime now = LocalDateTime.now();
+        valid.forEach(eventMessage -> ingestDelay.record(Duration.between(eventMessage.getTimestamp(), now)));
+
+        acknowledgment.acknowledge();
+    }
+
+    private int store(List<AuditEventMessage> eventMessages) {
+        if (eventMessages.isEmpty()) {
+            return 0;
+        }
+        try {
+            return auditLogService.createAuditLogs(eventMessages);
+        } catch (DataIntegrityViolationException e) {
+            // One bad row fails the whole batch; isolate it instead of redelivering the batch forever
+            log.warn("Audit batch of {} events rejected by the database, storing them one by one: {}",
+                    eventMessages.size(), e.getMessage());
+            int stored = 0;
+            for (AuditEventMessage eventMessage : eventMessages) {
+                try {
+                    stored += auditLogService.createAuditLogs(List.of(eventMessage));
+                } catch (DataIntegrityViolationException ex) {
+                    rejectedEvents.increment();
+                    log.error("Dropping audit event {} rejected by the database: {}", eventMessage.getEventId(), ex.getMessage());
+                }
+            }
+            return stored;
+        }
     }
-}
\ No newline at end of file
+}
@@ -46,8 +46,10 @@ public class AuditEventMessage {
     @JsonProperty("timestamp")
     private LocalDateTime timestamp;
 
+    // The stored row is keyed by (eventId, timestamp); without them a redelivered event could not be recognised
     public boolean isValid() {
-        return eventType == null || entityType == null || entityId == null;
+        return eventId != null && !eventId.isBlank() && timestamp != null
+                && eventType != null && serviceName != null && entityType != null && entityId != null;
     }
 
     public boolean hasUserInfo() {
@@ -0,0 +1,65 @@
+package com.library.dashboard.framework.pagination;
+
+import com.library.dashboard.aop.InvalidAuditLogRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in the {@code (timestamp, id)} order of the audit logs, pointing after the last row returned.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AuditLogCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    private final Sort.Direction direction;
+
+    private final LocalDateTime timestamp;
+
+    private final UUID id;
+
+    public static AuditLogCursor of(Sort.Direction direction, LocalDateTime timestamp, UUID id) {
+        return new AuditLogCursor(direction, timestamp, id);
+    }
+
+    public static AuditLogCursor decode(String token, Sort.Direction expectedDirection) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        } catch (IllegalArgumentException e) {
+            throw InvalidAuditLogRequestException.invalidCursor("cursor is not a valid token");
+        }
+        if (parts.length != 3) {
+            throw InvalidAuditLogRequestException.invalidCursor("cursor is not a valid token");
+        }
+        if (!parts[0].equals(expectedDirection.name())) {
+            throw InvalidAuditLogRequestException.invalidCursor("cursor was issued for a different sort order");
+        }
+        try {
+            return new AuditLogCursor(expectedDirection, LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw InvalidAuditLogRequestException.invalidCursor("cursor is not a valid token");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, direction.name(), timestamp.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isDescending() {
+        return direction.isDescending();
+    }
+}
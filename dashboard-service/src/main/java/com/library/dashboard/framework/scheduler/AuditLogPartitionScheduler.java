@@ -0,0 +1,104 @@
+package com.library.dashboard.framework.scheduler;
+
+import com.library.dashboard.repository.AuditLogPartitionQueries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps the monthly {@code audit_logs} partitions ahead of the clock and drops whole partitions once they are
+ * older than the retention, so expiring audit history never turns into a large DELETE. Runs at startup and
+ * then daily; a replica that finds another one holding the maintenance lock skips the run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "audit.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogPartitionScheduler {
+
+    private final AuditLogPartitionQueries partitionQueries;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter createdPartitions;
+    private final Counter droppedPartitions;
+
+    @Value("${audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${audit.partitions.retention-months:12}")
+    private int retentionMonths;
+
+    public AuditLogPartitionScheduler(AuditLogPartitionQueries partitionQueries,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.partitionQueries = partitionQueries;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.createdPartitions = Counter.builder("audit.partitions")
+                .description("Monthly audit_logs partitions created or dropped")
+                .tag("operation", "created")
+                .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("audit.partitions")
+                .description("Monthly audit_logs partitions created or dropped")
+                .tag("operation", "dropped")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${audit.partitions.cron:0 15 3 * * ?}") // Default daily at 3:15 AM
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!partitionQueries.tryLockMaintenance()) {
+                    log.debug("Audit log partition maintenance is running on another instance");
+                    return;
+                }
+                createAhead(current);
+                dropExpired(oldestKept);
+            });
+        } catch (Exception e) {
+            // Partitions are created months ahead, a failed run is retried by the next one
+            log.error("Audit log partition maintenance failed", e);
+        }
+    }
+
+    private void createAhead(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (partitionQueries.createMonthlyPartition(month)) {
+                createdPartitions.increment();
+                log.info("Created audit_logs partition for {}", month);
+            }
+        }
+    }
+
+    private void dropExpired(YearMonth oldestKept) {
+        for (YearMonth month : partitionQueries.findMonthlyPartitions()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            partitionQueries.dropMonthlyPartition(month);
+            droppedPartitions.increment();
+            log.info("Dropped audit_logs partition for {}", month);
+        }
+
+        int deleted = partitionQueries.deleteDefaultPartitionRowsBefore(oldestKept.atDay(1).atStartOfDay());
+        if (deleted > 0) {
+            log.info("Deleted {} expired rows from the default audit_logs partition", deleted);
+        }
+    }
+}
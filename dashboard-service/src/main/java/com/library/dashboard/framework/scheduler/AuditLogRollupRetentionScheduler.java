@@ -0,0 +1,42 @@
+package com.library.dashboard.framework.scheduler;
+
+import com.library.dashboard.repository.AuditLogRollupRepository;
+import com.library.dashboard.repository.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+
+/**
+ * Trims the rollup tables. Minute buckets only serve recent charts and are kept briefly; hour buckets follow
+ * the raw audit log retention.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "audit.rollups.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogRollupRetentionScheduler {
+
+    private final AuditLogRollupRepository auditLogRollupRepository;
+
+    @Value("${audit.rollups.minute-retention:P7D}")
+    private Period minuteRetention;
+
+    @Value("${audit.rollups.hour-retention:P13M}")
+    private Period hourRetention;
+
+    @Scheduled(cron = "${audit.rollups.retention.cron:0 45 3 * * ?}") // Default daily at 3:45 AM
+    @Transactional
+    public void deleteExpiredBuckets() {
+        LocalDateTime now = LocalDateTime.now();
+        int minutes = auditLogRollupRepository.deleteBucketsBefore(RollupGranularity.MINUTE, now.minus(minuteRetention));
+        int hours = auditLogRollupRepository.deleteBucketsBefore(RollupGranularity.HOUR, now.minus(hourRetention));
+        log.info("Deleted {} minute and {} hour audit rollup buckets past their retention", minutes, hours);
+    }
+}
@@ -0,0 +1,82 @@
+package com.library.dashboard.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk insert path for audit ingestion. Bypasses the persistence context and sends the rows as multi-row INSERTs
+ * of up to {@value #ROWS_PER_STATEMENT} rows. Rows already stored under the same {@code (id, timestamp)} are
+ * skipped, so a redelivered event is stored once; {@code RETURNING} tells which rows were actually written.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogBatchRepository {
+
+    // 11 parameters per row, well below the driver's limit of 32767 per statement
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int COLUMNS = 11;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (id, service_name, entity_name, entity_id, action_type, user_id,
+                                    user_info, old_value, new_value, changes, "timestamp")
+            VALUES %s
+            ON CONFLICT (id, "timestamp") DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), CAST(? AS jsonb), CAST(? AS jsonb), ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the entities in the caller's transaction and returns the ones that were new. Every entity carries the
+     * id of its event; entities repeating an id of the list are written once.
+     */
+    public List<AuditLogEntity> insertAll(List<AuditLogEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, AuditLogEntity> byId = new LinkedHashMap<>();
+        for (AuditLogEntity entity : entities) {
+            byId.putIfAbsent(entity.getId(), entity);
+        }
+
+        List<AuditLogEntity> unique = new ArrayList<>(byId.values());
+        List<AuditLogEntity> inserted = new ArrayList<>(unique.size());
+        for (int from = 0; from < unique.size(); from += ROWS_PER_STATEMENT) {
+            List<AuditLogEntity> chunk = unique.subList(from, Math.min(from + ROWS_PER_STATEMENT, unique.size()));
+            List<UUID> ids = jdbcTemplate.query(
+                    INSERT_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), ROW))),
+                    statement -> {
+                        int index = 0;
+                        for (AuditLogEntity entity : chunk) {
+                            statement.setObject(index + 1, entity.getId());
+                            statement.setString(index + 2, entity.getServiceName());
+                            statement.setString(index + 3, entity.getEntityName());
+                            statement.setString(index + 4, entity.getEntityId());
+                            statement.setString(index + 5, entity.getActionType().name());
+                            statement.setString(index + 6, entity.getUserId());
+                            statement.setString(index + 7, entity.getUserInfo());
+                            statement.setString(index + 8, entity.getOldValue());
+                            statement.setString(index + 9, entity.getNewValue());
+                            statement.setString(index + 10, entity.getChanges());
+                            statement.setObject(index + 11, Timestamp.valueOf(entity.getTimestamp()), Types.TIMESTAMP);
+                            index += COLUMNS;
+                        }
+                    },
+                    (rs, rowNum) -> rs.getObject(1, UUID.class));
+            ids.forEach(id -> inserted.add(byId.get(id)));
+        }
+        return inserted;
+    }
+}
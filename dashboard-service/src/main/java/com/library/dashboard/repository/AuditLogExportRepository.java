@@ -0,0 +1,99 @@
+package com.library.dashboard.repository;
+
+import com.library.dashboard.dto.request.AuditLogSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads matching audit logs through a server-side cursor and hands them over one row at a time, in
+ * {@code (timestamp, id)} order. Nothing is kept after a row has been handed over.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogExportRepository {
+
+    // Postgres only streams with a fetch size inside a transaction, otherwise it loads the whole result
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEach(AuditLogSearchCriteria criteria, Consumer<AuditLogEntity> action) {
+        List<Object> params = new ArrayList<>();
+        String sql = """
+                SELECT id, service_name, entity_name, entity_id, action_type, user_id,
+                       user_info::text, old_value::text, new_value::text, changes::text, "timestamp"
+                FROM audit_logs
+                WHERE %s
+                ORDER BY "timestamp", id
+                """.formatted(where(criteria, params));
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, rs -> {
+            AuditLogEntity entity = new AuditLogEntity();
+            entity.setId(rs.getObject(1, UUID.class));
+            entity.setServiceName(rs.getString(2));
+            entity.setEntityName(rs.getString(3));
+            entity.setEntityId(rs.getString(4));
+            entity.setActionType(ActionType.valueOf(rs.getString(5)));
+            entity.setUserId(rs.getString(6));
+            entity.setUserInfo(rs.getString(7));
+            entity.setOldValue(rs.getString(8));
+            entity.setNewValue(rs.getString(9));
+            entity.setChanges(rs.getString(10));
+            entity.setTimestamp(rs.getTimestamp(11).toLocalDateTime());
+            action.accept(entity);
+        });
+    }
+
+    // Same filters as AuditLogSpecification, the date range on the partition key keeps pruning effective
+    private static String where(AuditLogSearchCriteria criteria, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("TRUE");
+        if (criteria == null) {
+            return conditions.get(0);
+        }
+        if (criteria.getServiceName() != null) {
+            conditions.add("service_name = ?");
+            params.add(criteria.getServiceName());
+        }
+        if (criteria.getEntityName() != null) {
+            conditions.add("entity_name = ?");
+            params.add(criteria.getEntityName());
+        }
+        if (criteria.getEntityId() != null) {
+            conditions.add("entity_id = ?");
+            params.add(criteria.getEntityId());
+        }
+        if (criteria.getActionType() != null) {
+            conditions.add("action_type = ?");
+            params.add(criteria.getActionType().name());
+        }
+        if (criteria.getUserId() != null) {
+            conditions.add("user_id = ?");
+            params.add(criteria.getUserId());
+        }
+        if (criteria.getStartDate() != null) {
+            conditions.add("\"timestamp\" >= ?");
+            params.add(Timestamp.valueOf(criteria.getStartDate()));
+        }
+        if (criteria.getEndDate() != null) {
+            conditions.add("\"timestamp\" <= ?");
+            params.add(Timestamp.valueOf(criteria.getEndDate()));
+        }
+        return String.join(" AND ", conditions);
+    }
+}
@@ -0,0 +1,92 @@
+package com.library.dashboard.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintenance of the monthly {@code audit_logs} partitions, named {@code audit_logs_YYYY_MM}. Each call must run
+ * inside a transaction; the DDL takes a short lock on the parent table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogPartitionQueries {
+
+    private static final String PARTITION_PREFIX = "audit_logs_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("audit_logs_(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Transaction-scoped lock so only one replica maintains the partitions at a time.
+     */
+    public boolean tryLockMaintenance() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('audit_logs_partition_maintenance'))", Boolean.class));
+    }
+
+    /**
+     * Creates the partition for the month unless it exists. Fails if the default partition already holds
+     * rows of that month.
+     */
+    public boolean createMonthlyPartition(YearMonth month) {
+        String name = partitionName(month);
+        if (partitionExists(name)) {
+            return false;
+        }
+        // Bounds come from YearMonth, never request input
+        jdbcTemplate.execute("CREATE TABLE %s PARTITION OF audit_logs FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(name, month.atDay(1), month.plusMonths(1).atDay(1)));
+        return true;
+    }
+
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = 'audit_logs'::regclass
+                        """, String.class).stream()
+                .map(AuditLogPartitionQueries::parseMonth)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    public void dropMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    /**
+     * Rows the monthly partitions did not cover are not dropped with them, they are deleted here instead.
+     */
+    public int deleteDefaultPartitionRowsBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM audit_logs_default WHERE \"timestamp\" < ?", Timestamp.valueOf(cutoff));
+    }
+
+    private boolean partitionExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static Optional<YearMonth> parseMonth(String partitionName) {
+        Matcher matcher = MONTHLY_PARTITION.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
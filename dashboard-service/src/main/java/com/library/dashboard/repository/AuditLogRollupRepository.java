@@ -0,0 +1,110 @@
+package com.library.dashboard.repository;
+
+import com.library.dashboard.dto.response.AuditLogStatsBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minute and hour event counts per (service, entity, action, user). Table and column names come from
+ * {@link RollupGranularity} and {@link RollupDimension}, never from request input.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogRollupRepository {
+
+    public record RollupKey(LocalDateTime bucketStart, String serviceName, String entityName,
+                            ActionType actionType, String userId) {
+
+        // Upserts follow this order, so concurrent consumers lock shared rows in the same order and cannot deadlock
+        public static final Comparator<RollupKey> LOCK_ORDER = Comparator.comparing(RollupKey::bucketStart)
+                .thenComparing(RollupKey::serviceName)
+                .thenComparing(RollupKey::entityName)
+                .thenComparing(RollupKey::actionType)
+                .thenComparing(RollupKey::userId);
+
+        public static RollupKey of(RollupGranularity granularity, AuditLogEntity entity) {
+            return new RollupKey(granularity.bucketOf(entity.getTimestamp()), entity.getServiceName(),
+                    entity.getEntityName(), entity.getActionType(),
+                    entity.getUserId() != null ? entity.getUserId() : "");
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the counts in the caller's transaction. Keys are expected in {@link RollupKey#LOCK_ORDER}.
+     */
+    public void increment(RollupGranularity granularity, Map<RollupKey, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO %s AS r (bucket_start, service_name, entity_name, action_type, user_id, event_count)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (bucket_start, service_name, entity_name, action_type, user_id)
+                DO UPDATE SET event_count = r.event_count + EXCLUDED.event_count
+                """.formatted(granularity.getTable());
+        jdbcTemplate.batchUpdate(sql, new ArrayList<>(counts.entrySet()), counts.size(), (statement, entry) -> {
+            RollupKey key = entry.getKey();
+            statement.setTimestamp(1, Timestamp.valueOf(key.bucketStart()));
+            statement.setString(2, key.serviceName());
+            statement.setString(3, key.entityName());
+            statement.setString(4, key.actionType().name());
+            statement.setString(5, key.userId());
+            statement.setLong(6, entry.getValue());
+        });
+    }
+
+    /**
+     * Sums the counts per bucket in [from, to), optionally broken down by one dimension. Null filters are ignored.
+     */
+    public List<AuditLogStatsBucket> findBuckets(RollupGranularity granularity, RollupDimension groupBy,
+                                                 LocalDateTime from, LocalDateTime to,
+                                                 String serviceName, String entityName,
+                                                 ActionType actionType, String userId) {
+        StringBuilder where = new StringBuilder("bucket_start >= ? AND bucket_start < ?");
+        List<Object> params = new ArrayList<>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        if (serviceName != null) {
+            where.append(" AND service_name = ?");
+            params.add(serviceName);
+        }
+        if (entityName != null) {
+            where.append(" AND entity_name = ?");
+            params.add(entityName);
+        }
+        if (actionType != null) {
+            where.append(" AND action_type = ?");
+            params.add(actionType.name());
+        }
+        if (userId != null) {
+            where.append(" AND user_id = ?");
+            params.add(userId);
+        }
+
+        String group = groupBy != null ? groupBy.getColumn() : "NULL";
+        String sql = """
+                SELECT bucket_start, %2$s AS grp, SUM(event_count) AS total
+                FROM %1$s
+                WHERE %3$s
+                GROUP BY bucket_start, grp
+                ORDER BY bucket_start, total DESC
+                """.formatted(granularity.getTable(), group, where);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new AuditLogStatsBucket(
+                rs.getTimestamp("bucket_start").toLocalDateTime(),
+                rs.getString("grp"),
+                rs.getLong("total")), params.toArray());
+    }
+
+    public int deleteBucketsBefore(RollupGranularity granularity, LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM %s WHERE bucket_start < ?".formatted(granularity.getTable()),
+                Timestamp.valueOf(cutoff));
+    }
+}
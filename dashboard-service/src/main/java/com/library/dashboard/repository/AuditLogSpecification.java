@@ -2,10 +2,13 @@ package com.library.dashboard.repository;
 
 import com.library.dashboard.repository.AuditLogEntity;
 import com.library.dashboard.repository.ActionType;
+import com.library.dashboard.framework.pagination.AuditLogCursor;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Component
 public class AuditLogSpecification {
@@ -35,29 +38,58 @@ public class AuditLogSpecification {
                 userId == null ? null : criteriaBuilder.equal(root.get("userId"), userId);
     }
 
+    /**
+     * Compares the partition key directly, so Postgres prunes the monthly audit_logs partitions outside the range.
+     */
     public static Specification<AuditLogEntity> createdBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return (root, query, criteriaBuilder) -> {
             if (startDate == null && endDate == null) {
                 return null;
             }
             if (startDate == null) {
-                return criteriaBuilder.lessThanOrEqualTo(root.get("createdAt"), endDate);
+                return criteriaBuilder.lessThanOrEqualTo(root.get("timestamp"), endDate);
             }
             if (endDate == null) {
-                return criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), startDate);
+                return criteriaBuilder.greaterThanOrEqualTo(root.get("timestamp"), startDate);
             }
-            return criteriaBuilder.between(root.get("createdAt"), startDate, endDate);
+            return criteriaBuilder.between(root.get("timestamp"), startDate, endDate);
+        };
+    }
+
+    /**
+     * Seeks past the cursor in {@code (timestamp, id)} order. The extra bound on the timestamp alone lets
+     * Postgres prune partitions and use the BRIN index, which it cannot derive from the OR.
+     */
+    public static Specification<AuditLogEntity> after(AuditLogCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return null;
+            }
+            Path<LocalDateTime> timestamp = root.get("timestamp");
+            Path<UUID> id = root.get("id");
+            if (cursor.isDescending()) {
+                return criteriaBuilder.and(
+                        criteriaBuilder.lessThanOrEqualTo(timestamp, cursor.getTimestamp()),
+                        criteriaBuilder.or(
+                                criteriaBuilder.lessThan(timestamp, cursor.getTimestamp()),
+                                criteriaBuilder.lessThan(id, cursor.getId())));
+            }
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(timestamp, cursor.getTimestamp()),
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(timestamp, cursor.getTimestamp()),
+                            criteriaBuilder.greaterThan(id, cursor.getId())));
         };
     }
 
     public static Specification<AuditLogEntity> createdAfter(LocalDateTime date) {
         return (root, query, criteriaBuilder) ->
-                date == null ? null : criteriaBuilder.greaterThan(root.get("createdAt"), date);
+                date == null ? null : criteriaBuilder.greaterThan(root.get("timestamp"), date);
     }
 
     public static Specification<AuditLogEntity> createdBefore(LocalDateTime date) {
         return (root, query, criteriaBuilder) ->
-                date == null ? null : criteriaBuilder.lessThan(root.get("createdAt"), date);
+                date == null ? null : criteriaBuilder.lessThan(root.get("timestamp"), date);
     }
 
     public static Specification<AuditLogEntity> serviceNameContains(String serviceName) {
@@ -0,0 +1,22 @@
+package com.library.dashboard.repository;
+
+/**
+ * Rollup key columns a stats series can be broken down by.
+ */
+public enum RollupDimension {
+    SERVICE("service_name"),
+    ENTITY("entity_name"),
+    ACTION("action_type"),
+    // Events without a user are stored under '' and reported as null
+    USER("NULLIF(user_id, '')");
+
+    private final String column;
+
+    RollupDimension(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
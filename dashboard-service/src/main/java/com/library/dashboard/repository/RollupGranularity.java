@@ -0,0 +1,33 @@
+package com.library.dashboard.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket sizes of the audit event rollups, each backed by its own table.
+ */
+public enum RollupGranularity {
+    MINUTE("audit_log_rollup_minute", ChronoUnit.MINUTES),
+    HOUR("audit_log_rollup_hour", ChronoUnit.HOURS);
+
+    private final String table;
+    private final ChronoUnit unit;
+
+    RollupGranularity(String table, ChronoUnit unit) {
+        this.table = table;
+        this.unit = unit;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public Duration getBucketSize() {
+        return unit.getDuration();
+    }
+
+    public LocalDateTime bucketOf(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,123 @@
+package com.library.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.dashboard.dto.request.AuditLogExportFormat;
+import com.library.dashboard.repository.AuditLogEntity;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes audit logs one row at a time in the export format. The jsonb columns are copied through as raw JSON
+ * (NDJSON) or as quoted JSON text (CSV) instead of being parsed. Field names follow {@code AuditLogResponse}.
+ */
+abstract class AuditLogExportWriter {
+
+    private static final String[] COLUMNS = {"id", "serviceName", "entityName", "entityId", "actionType", "userId",
+            "userInfo", "oldValue", "newValue", "changes", "createdAt"};
+
+    static AuditLogExportWriter open(AuditLogExportFormat format, OutputStream output, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(output, objectMapper);
+            case CSV -> new Csv(output);
+        };
+    }
+
+    abstract void write(AuditLogEntity entity) throws IOException;
+
+    // Flushes buffered rows, the output stream itself stays open
+    abstract void finish() throws IOException;
+
+    private static final class Ndjson extends AuditLogExportWriter {
+
+        private final JsonGenerator generator;
+
+        private Ndjson(OutputStream output, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(AuditLogEntity entity) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", entity.getId().toString());
+            generator.writeStringField("serviceName", entity.getServiceName());
+            generator.writeStringField("entityName", entity.getEntityName());
+            generator.writeStringField("entityId", entity.getEntityId());
+            generator.writeStringField("actionType", entity.getActionType().name());
+            generator.writeStringField("userId", entity.getUserId());
+            writeJson("userInfo", entity.getUserInfo());
+            writeJson("oldValue", entity.getOldValue());
+            writeJson("newValue", entity.getNewValue());
+            writeJson("changes", entity.getChanges());
+            generator.writeStringField("createdAt", entity.getTimestamp().toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeJson(String field, String json) throws IOException {
+            generator.writeFieldName(field);
+            if (json == null) {
+                generator.writeNull();
+            } else {
+                generator.writeRawValue(json);
+            }
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class Csv extends AuditLogExportWriter {
+
+        private final Writer writer;
+
+        private Csv(OutputStream output) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        void write(AuditLogEntity entity) throws IOException {
+            String[] values = {entity.getId().toString(), entity.getServiceName(), entity.getEntityName(),
+                    entity.getEntityId(), entity.getActionType().name(), entity.getUserId(), entity.getUserInfo(),
+                    entity.getOldValue(), entity.getNewValue(), entity.getChanges(), entity.getTimestamp().toString()};
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(values[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180 quoting, null is written as an empty field
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -15,7 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -68,15 +70,16 @@ public class AuditLogMapper {
             return null;
         }
         AuditLogEntity entity = new AuditLogEntity();
+        entity.setId(idOf(eventMessage.getEventId()));
         entity.setServiceName(eventMessage.getServiceName());
         entity.setEntityName(eventMessage.getEntityType());
         entity.setEntityId(eventMessage.getEntityId());
         entity.setActionType(mapEventTypeToActionType(eventMessage.getEventType()));
         entity.setUserId(eventMessage.getUserId());
-        entity.setUserInfo(eventMessage.getUserInfo());
-        entity.setOldValue(eventMessage.getOldValue());
-        entity.setNewValue(eventMessage.getNewValue());
-        entity.setChanges(eventMessage.getChanges());
+        entity.setUserInfo(toJsonValue(eventMessage.getUserInfo()));
+        entity.setOldValue(toJsonValue(eventMessage.getOldValue()));
+        entity.setNewValue(toJsonValue(eventMessage.getNewValue()));
+        entity.setChanges(toJsonValue(eventMessage.getChanges()));
         entity.setTimestamp(eventMessage.getTimestamp());
         return entity;
     }
@@ -123,6 +126,17 @@ public class AuditLogMapper {
         return response;
     }
 
+    public PagedAuditLogResponse toSlicedResponse(List<AuditLogEntity> entities, int size, boolean first, String nextCursor) {
+        PagedAuditLogResponse response = new PagedAuditLogResponse();
+        response.setContent(entities.stream().map(this::toDto).collect(Collectors.toList()));
+        response.setPageNumber(0);
+        response.setPageSize(size);
+        response.setFirst(first);
+        response.setLast(nextCursor == null);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
+
     public AuditLogSearchCriteria toCriteria(AuditLogSearchRequest request) {
         if (request == null) {
             return null;
@@ -153,6 +167,15 @@ public class AuditLogMapper {
         return ActionType.UPDATE;
     }
 
+    // The row id is derived from the event id, so a redelivered event maps to the row already stored
+    private static UUID idOf(String eventId) {
+        try {
+            return UUID.fromString(eventId);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(eventId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     private JsonNode stringToJsonNode(String jsonString) {
         if (jsonString == null || jsonString.trim().isEmpty()) {
             return null;
@@ -165,6 +188,24 @@ public class AuditLogMapper {
         }
     }
 
+    // The jsonb columns reject plain text (e.g. free-form access details), so it is stored as a JSON string
+    private String toJsonValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            objectMapper.readTree(value);
+            return value;
+        } catch (JsonProcessingException e) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException ex) {
+                log.error("Cannot serialize audit value as JSON: {}", value, ex);
+                return null;
+            }
+        }
+    }
+
     private String jsonNodeToString(JsonNode jsonNode) {
         if (jsonNode == null) {
             return null;
@@ -1,12 +1,18 @@
 package com.library.dashboard.service;
 
 import com.library.dashboard.framework.kafka.AuditEventMessage;
+import com.library.dashboard.dto.request.AuditLogExportFormat;
 import com.library.dashboard.dto.request.AuditLogSearchCriteria;
+import com.library.dashboard.dto.request.AuditLogStatsRequest;
 import com.library.dashboard.dto.response.AuditLogResponse;
+import com.library.dashboard.dto.response.AuditLogStatsResponse;
 import com.library.dashboard.dto.response.PagedAuditLogResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.util.List;
 import java.util.UUID;
 
 public interface AuditLogService {
@@ -15,8 +21,29 @@ public interface AuditLogService {
 
     PagedAuditLogResponse search(AuditLogSearchCriteria criteria, Pageable pageable);
 
+    /**
+     * Cursor mode of {@link #search}: seeks past {@code after} in {@code (timestamp, id)} order and issues no
+     * count query. Only ordering by timestamp is supported.
+     */
+    PagedAuditLogResponse searchByCursor(AuditLogSearchCriteria criteria, String sortBy, Sort.Direction direction,
+                                         String after, int size);
+
+    /**
+     * Writes every matching audit log to the stream, oldest first, without holding more than one fetch in memory.
+     */
+    void exportAuditLogs(AuditLogSearchCriteria criteria, AuditLogExportFormat format, OutputStream output);
+
     AuditLogResponse findById(UUID id);
 
+    /**
+     * Event counts per bucket, read from the rollup tables rather than the raw audit logs.
+     */
+    AuditLogStatsResponse getStats(AuditLogStatsRequest request);
+
+    /**
+     * Stores a batch of consumed audit events and their rollup counts in one transaction and returns the number
+     * of rows written. Events already stored are skipped and not counted again.
+     */
     @Transactional
-    AuditLogResponse createAuditLog(AuditEventMessage eventMessage);
+    int createAuditLogs(List<AuditEventMessage> eventMessages);
 }
@@ -1,22 +1,46 @@
 package com.library.dashboard.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.library.dashboard.framework.kafka.AuditEventMessage;
+import com.library.dashboard.framework.pagination.AuditLogCursor;
+import com.library.dashboard.dto.request.AuditLogExportFormat;
 import com.library.dashboard.dto.request.AuditLogSearchCriteria;
+import com.library.dashboard.dto.request.AuditLogStatsRequest;
 import com.library.dashboard.dto.response.AuditLogResponse;
+import com.library.dashboard.dto.response.AuditLogStatsBucket;
+import com.library.dashboard.dto.response.AuditLogStatsResponse;
 import com.library.dashboard.dto.response.PagedAuditLogResponse;
+import com.library.dashboard.aop.AuditLogException;
 import com.library.dashboard.aop.AuditLogNotFoundException;
+import com.library.dashboard.aop.InvalidAuditLogRequestException;
+import com.library.dashboard.repository.AuditLogBatchRepository;
+import com.library.dashboard.repository.AuditLogExportRepository;
+import com.library.dashboard.repository.AuditLogRollupRepository;
+import com.library.dashboard.repository.AuditLogRollupRepository.RollupKey;
 import com.library.dashboard.repository.AuditLogRepository;
 import com.library.dashboard.repository.AuditLogEntity;
 import com.library.dashboard.repository.AuditLogSpecification;
+import com.library.dashboard.repository.RollupGranularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
 @Slf4j
@@ -25,7 +49,11 @@ import java.util.UUID;
 public class AuditLogServiceImpl implements AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final AuditLogRollupRepository auditLogRollupRepository;
+    private final AuditLogExportRepository auditLogExportRepository;
     private final AuditLogMapper auditLogMapper;
+    private final ObjectMapper objectMapper;
 
     @Override
     public PagedAuditLogResponse findAll(Pageable pageable) {
@@ -43,6 +71,47 @@ public class AuditLogServiceImpl implements AuditLogService {
 
     }
 
+    @Override
+    public PagedAuditLogResponse searchByCursor(AuditLogSearchCriteria criteria, String sortBy, Sort.Direction direction,
+                                                String after, int size) {
+
+        if (!"timestamp".equals(sortBy)) {
+            throw new InvalidAuditLogRequestException("Cursor pagination only supports sorting by timestamp");
+        }
+        AuditLogCursor cursor = AuditLogCursor.decode(after, direction);
+        Specification<AuditLogEntity> spec = buildSpecification(criteria).and(AuditLogSpecification.after(cursor));
+        Sort sort = Sort.by(direction, "timestamp").and(Sort.by(direction, "id"));
+
+        // One look-ahead row tells whether another slice exists, so no count query is needed
+        List<AuditLogEntity> rows = auditLogRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<AuditLogEntity> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AuditLogEntity last = content.get(content.size() - 1);
+            nextCursor = AuditLogCursor.of(direction, last.getTimestamp(), last.getId()).encode();
+        }
+        return auditLogMapper.toSlicedResponse(content, size, cursor == null, nextCursor);
+    }
+
+    @Override
+    public void exportAuditLogs(AuditLogSearchCriteria criteria, AuditLogExportFormat format, OutputStream output) {
+
+        try {
+            AuditLogExportWriter writer = AuditLogExportWriter.open(format, output, objectMapper);
+            auditLogExportRepository.forEach(criteria, entity -> {
+                try {
+                    writer.write(entity);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+        } catch (IOException | UncheckedIOException e) {
+            throw new AuditLogException("Failed to write audit log export", e);
+        }
+    }
+
     @Override
     public AuditLogResponse findById(UUID id) {
 
@@ -53,12 +122,52 @@ public class AuditLogServiceImpl implements AuditLogService {
 
     @Transactional
     @Override
-    public AuditLogResponse createAuditLog(AuditEventMessage eventMessage) {
+    public int createAuditLogs(List<AuditEventMessage> eventMessages) {
+
+        List<AuditLogEntity> entities = eventMessages.stream()
+                .map(auditLogMapper::toEntity)
+                .toList();
+        // Only rows new to audit_logs are counted, so a redelivered batch does not inflate the rollups
+        List<AuditLogEntity> inserted = auditLogBatchRepository.insertAll(entities);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Map<RollupKey, Long> counts = inserted.stream().collect(Collectors.groupingBy(
+                    entity -> RollupKey.of(granularity, entity),
+                    () -> new TreeMap<>(RollupKey.LOCK_ORDER),
+                    Collectors.counting()));
+            auditLogRollupRepository.increment(granularity, counts);
+        }
+        return inserted.size();
+    }
 
-        AuditLogEntity entity = auditLogMapper.toEntity(eventMessage);
-        auditLogRepository.save(entity);
+    @Override
+    public AuditLogStatsResponse getStats(AuditLogStatsRequest request) {
+
+        RollupGranularity granularity = request.getGranularity();
+        LocalDateTime from = granularity.bucketOf(request.getFrom());
+        List<AuditLogStatsBucket> buckets = auditLogRollupRepository.findBuckets(granularity, request.getGroupBy(),
+                from, request.getTo(), request.getServiceName(), request.getEntityName(),
+                request.getActionType(), request.getUserId());
+        if (request.getGroupBy() == null) {
+            buckets = fillEmptyBuckets(buckets, granularity, from, request.getTo());
+        }
+        return new AuditLogStatsResponse(granularity, from, request.getTo(), request.getGroupBy(), buckets);
+    }
 
-        return auditLogMapper.toDto(entity);
+    // A single series gets a zero for every bucket without events, so charts need no gap handling
+    private List<AuditLogStatsBucket> fillEmptyBuckets(List<AuditLogStatsBucket> buckets, RollupGranularity granularity,
+                                                       LocalDateTime from, LocalDateTime to) {
+        List<AuditLogStatsBucket> filled = new ArrayList<>();
+        Iterator<AuditLogStatsBucket> found = buckets.iterator();
+        AuditLogStatsBucket next = found.hasNext() ? found.next() : null;
+        for (LocalDateTime bucket = from; bucket.isBefore(to); bucket = bucket.plus(granularity.getBucketSize())) {
+            if (next != null && next.getBucketStart().equals(bucket)) {
+                filled.add(next);
+                next = found.hasNext() ? found.next() : null;
+            } else {
+                filled.add(new AuditLogStatsBucket(bucket, null, 0));
+            }
+        }
+        return filled;
     }
 
     private Specification<AuditLogEntity> buildSpecification(AuditLogSearchCriteria criteria) {
@@ -0,0 +1,35 @@
+-- Event counts per minute and per hour, maintained by the audit ingestion in the same transaction as the raw rows.
+-- user_id is '' for events without a user, so it can be part of the primary key.
+CREATE TABLE IF NOT EXISTS audit_log_rollup_minute (
+    bucket_start TIMESTAMP(6) NOT NULL,
+    service_name VARCHAR(100) NOT NULL,
+    entity_name  VARCHAR(100) NOT NULL,
+    action_type  VARCHAR(20)  NOT NULL,
+    user_id      VARCHAR(36)  NOT NULL DEFAULT '',
+    event_count  BIGINT       NOT NULL,
+    CONSTRAINT pk_audit_log_rollup_minute PRIMARY KEY (bucket_start, service_name, entity_name, action_type, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS audit_log_rollup_hour (
+    bucket_start TIMESTAMP(6) NOT NULL,
+    service_name VARCHAR(100) NOT NULL,
+    entity_name  VARCHAR(100) NOT NULL,
+    action_type  VARCHAR(20)  NOT NULL,
+    user_id      VARCHAR(36)  NOT NULL DEFAULT '',
+    event_count  BIGINT       NOT NULL,
+    CONSTRAINT pk_audit_log_rollup_hour PRIMARY KEY (bucket_start, service_name, entity_name, action_type, user_id)
+);
+
+-- Backfill from the rows already stored
+INSERT INTO audit_log_rollup_minute (bucket_start, service_name, entity_name, action_type, user_id, event_count)
+SELECT date_trunc('minute', "timestamp"), service_name, entity_name, action_type, COALESCE(user_id, ''), count(*)
+FROM audit_logs
+WHERE "timestamp" >= date_trunc('day', CURRENT_TIMESTAMP - INTERVAL '7 days')
+GROUP BY 1, 2, 3, 4, 5
+ON CONFLICT DO NOTHING;
+
+INSERT INTO audit_log_rollup_hour (bucket_start, service_name, entity_name, action_type, user_id, event_count)
+SELECT date_trunc('hour', "timestamp"), service_name, entity_name, action_type, COALESCE(user_id, ''), count(*)
+FROM audit_logs
+GROUP BY 1, 2, 3, 4, 5
+ON CONFLICT DO NOTHING;
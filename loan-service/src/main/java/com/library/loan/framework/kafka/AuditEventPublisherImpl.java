@@ -4,18 +4,14 @@ import com.library.loan.framework.kafka.AuditEventMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
-
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AuditEventPublisherImpl implements AuditEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Value("${audit.kafka.topic:loan-service-audit-logs}")
     private String defaultTopic;
@@ -32,22 +28,8 @@ public class AuditEventPublisherImpl implements AuditEventPublisher {
             return;
         }
 
-        try {
-            log.debug("Publishing audit event to topic {}: {}", topic, event);
-
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, event.getEventId(), event);
-            
-            future.whenComplete((result, throwable) -> {
-                if (throwable != null) {
-                    log.error("Failed to publish audit event to topic {}: {}", topic, throwable.getMessage(), throwable);
-                } else {
-                    log.debug("Successfully published audit event to topic {} with offset: {}", 
-                             topic, result.getRecordMetadata().offset());
-                }
-            });
-
-        } catch (Exception e) {
-            log.error("Error publishing audit event to topic {}: {}", topic, e.getMessage(), e);
-        }
+        // A failed outbox write propagates, so the change is not committed without its audit event
+        log.debug("Queueing audit event for topic {}: {}", topic, event);
+        outboxEventWriter.write(topic, event.getEventId(), event);
     }
 }
\ No newline at end of file
@@ -4,22 +4,18 @@ import com.library.loan.framework.kafka.BorrowingEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
-
 /**
- * Implementation of BorrowingEventPublisher for publishing borrowing lifecycle events to Kafka.
- * Handles the actual Kafka publishing with proper error handling and logging.
+ * Implementation of BorrowingEventPublisher that queues borrowing lifecycle events in the outbox within
+ * the caller's transaction; {@link OutboxRelay} sends them to Kafka.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class BorrowingEventPublisherImpl implements BorrowingEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Value("${borrowing.kafka.topic:borrowing-events}")
     private String defaultTopic;
@@ -36,22 +32,8 @@ public class BorrowingEventPublisherImpl implements BorrowingEventPublisher {
             return;
         }
 
-        try {
-            log.debug("Publishing borrowing event to topic {}: {}", topic, event);
-
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, event.getEventId(), event);
-            
-            future.whenComplete((result, throwable) -> {
-                if (throwable != null) {
-                    log.error("Failed to publish borrowing event to topic {}: {}", topic, throwable.getMessage(), throwable);
-                } else {
-                    log.debug("Successfully published borrowing event to topic {} with offset: {}", 
-                             topic, result.getRecordMetadata().offset());
-                }
-            });
-
-        } catch (Exception e) {
-            log.error("Error publishing borrowing event to topic {}: {}", topic, e.getMessage(), e);
-        }
+        // A failed outbox write propagates, so the borrowing change is not committed without its event
+        log.debug("Queueing borrowing event for topic {}: {}", topic, event);
+        outboxEventWriter.write(topic, event.getEventId(), event);
     }
 }
\ No newline at end of file
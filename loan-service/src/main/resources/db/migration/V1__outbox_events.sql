@@ -0,0 +1,10 @@
+-- Transactional outbox: Kafka messages are inserted with the change they describe and relayed after commit
+CREATE TABLE IF NOT EXISTS loan_outbox_events (
+    id          BIGSERIAL PRIMARY KEY,
+    topic       VARCHAR(255)  NOT NULL,
+    message_key VARCHAR(255),
+    payload     TEXT          NOT NULL,
+    created_at  TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts    INTEGER       NOT NULL DEFAULT 0,
+    last_error  VARCHAR(1000)
+);
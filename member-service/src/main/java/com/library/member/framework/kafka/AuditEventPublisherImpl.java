@@ -5,18 +5,14 @@ import com.library.member.framework.kafka.AuditEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
-
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AuditEventPublisherImpl implements AuditEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Value("${audit.kafka.topic:member-service-audit-logs}")
     private String defaultTopic;
@@ -29,21 +25,10 @@ public class AuditEventPublisherImpl implements AuditEventPublisher {
     @Override
     public void publishEvent(String topic, AuditEventMessage event) {
         try {
-            log.debug("Publishing audit event to topic {}: {}", topic, event);
-
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, event.getEntityId(), event);
-
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.debug("Successfully published audit event to topic {} with offset: {}",
-                            topic, result.getRecordMetadata().offset());
-                } else {
-                    log.error("Failed to publish audit event to topic {}: {}", topic, ex.getMessage(), ex);
-                }
-            });
-
+            log.debug("Queueing audit event for topic {}: {}", topic, event);
+            outboxEventWriter.write(topic, event.getEntityId(), event);
         } catch (Exception e) {
-            log.error("Error publishing audit event to topic {}: {}", topic, e.getMessage(), e);
+            log.error("Error queueing audit event for topic {}: {}", topic, e.getMessage(), e);
             throw new RuntimeException("Failed to publish audit event", e);
         }
     }
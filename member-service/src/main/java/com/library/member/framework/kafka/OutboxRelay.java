@@ -0,0 +1,174 @@
+package com.library.member.framework.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.member.repository.OutboxEvent;
+import com.library.member.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to Kafka in id order. Each batch is locked, sent and deleted in one transaction. The whole
+ * batch is handed to the producer at once; the idempotent producer keeps per-partition order with several
+ * requests in flight. A failed send keeps that event and every later event with the same key for the next run,
+ * so events of one key are never published out of order. Delivery is at least once: if the transaction fails
+ * after a send was acknowledged, the event is sent again, so consumers must tolerate duplicates.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer publishLag;
+    private final Counter publishedEvents;
+    private final Counter failedSends;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestEventAgeSeconds = new AtomicLong();
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.send-timeout:PT10S}")
+    private Duration sendTimeout;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishLag = Timer.builder("outbox.relay.lag")
+                .description("Time from writing an outbox event to its acknowledgement by Kafka")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.publishedEvents = Counter.builder("outbox.relay.published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failedSends = Counter.builder("outbox.relay.failures")
+                .description("Outbox sends that failed and were left for the next run")
+                .register(meterRegistry);
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("outbox.oldest.age", oldestEventAgeSeconds, AtomicLong::get)
+                .description("Age in seconds of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:500}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed == null || relayed < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay run failed, retrying on the next run", e);
+        } finally {
+            refreshBacklog();
+        }
+    }
+
+    private int relayBatch() {
+        if (!outboxEventRepository.tryLockRelay()) {
+            return 0;
+        }
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+
+        // Step 1: Hand the whole batch to the producer, which pipelines it in order
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(events.size());
+        events.forEach(event -> sends.add(send(event)));
+
+        // Step 2: Wait for the acknowledgements; a failure holds back that event and the later ones of its key
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        Set<String> failedKeys = new HashSet<>();
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            if (failedKeys.contains(event.getMessageKey())) {
+                continue;
+            }
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                recordFailure(event, cause);
+                failedKeys.add(event.getMessageKey());
+                continue;
+            }
+            published.add(event);
+            publishLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        }
+
+        // Step 3: Delete what Kafka holds, attempts and errors of the failed event are written with the commit
+        outboxEventRepository.deleteAllInBatch(published);
+        publishedEvents.increment(published.size());
+        return published.size();
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event) {
+        try {
+            return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), objectMapper.readTree(event.getPayload()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, Throwable cause) {
+        failedSends.increment();
+        event.setAttempts(event.getAttempts() + 1);
+        String message = String.valueOf(cause.getMessage());
+        event.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        log.warn("Failed to publish outbox event {} to topic {} (attempt {}): {}",
+                event.getId(), event.getTopic(), event.getAttempts(), message);
+    }
+
+    private void refreshBacklog() {
+        try {
+            backlog.set(outboxEventRepository.count());
+            oldestEventAgeSeconds.set(outboxEventRepository.findOldestCreatedAt()
+                    .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.debug("Could not refresh outbox backlog metrics: {}", e.getMessage());
+        }
+    }
+}